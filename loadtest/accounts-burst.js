@@ -0,0 +1,67 @@
+// Bursty read traffic against the accounts API: a steady baseline, a spike to 16x the rate, then back down.
+// Run with `k6 run loadtest/accounts-burst.js`; BASE_URL, API_USER and API_PASSWORD override the defaults.
+// Requests carry a bearer token from /api/auth/login; AUTH=basic sends HTTP Basic on every request instead.
+import http from 'k6/http';
+import { check } from 'k6';
+import encoding from 'k6/encoding';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const API_USER = __ENV.API_USER || 'admin';
+const API_PASSWORD = __ENV.API_PASSWORD || 'admin';
+
+export const options = {
+    scenarios: {
+        burst: {
+            executor: 'ramping-arrival-rate',
+            startRate: 50,
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+            stages: [
+                { target: 50, duration: '30s' },
+                { target: 800, duration: '10s' },
+                { target: 800, duration: '30s' },
+                { target: 50, duration: '10s' },
+                { target: 50, duration: '30s' },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    let authorization = 'Basic ' + encoding.b64encode(`${API_USER}:${API_PASSWORD}`);
+    if (__ENV.AUTH !== 'basic') {
+        const login = http.post(`${BASE_URL}/api/auth/login`,
+            JSON.stringify({ username: API_USER, password: API_PASSWORD }),
+            { headers: { 'Content-Type': 'application/json' } });
+        authorization = 'Bearer ' + login.json('data.token');
+    }
+    const params = { headers: { Authorization: authorization } };
+    const res = http.get(`${BASE_URL}/api/accounts/scroll?size=1000`, params);
+    return { params, ids: res.json('data.content').map((account) => account.id) };
+}
+
+function get(data, path, name) {
+    return http.get(`${BASE_URL}${path}`, Object.assign({ tags: { name } }, data.params));
+}
+
+export default function (data) {
+    const pick = Math.random();
+    let res;
+    if (pick < 0.4) {
+        const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+        res = get(data, `/api/accounts/${id}`, 'GET /api/accounts/{id}');
+    } else if (pick < 0.7) {
+        res = get(data, `/api/accounts/scroll?size=50&description=Fornecedor%20${Math.floor(Math.random() * 1000)}`,
+            'GET /api/accounts/scroll');
+    } else if (pick < 0.9) {
+        res = get(data, `/api/accounts?page=${Math.floor(Math.random() * 100)}&size=20`, 'GET /api/accounts');
+    } else {
+        res = get(data, '/api/accounts/total-paid?startDate=2024-01-01&endDate=2024-12-31', 'GET /api/accounts/total-paid');
+    }
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,46 @@
+#!/bin/sh
+# Runs accounts-burst.js against the application on platform threads and then with the virtual-threads profile,
+# and prints throughput and latency percentiles of both runs. Needs k6, jq, a Java 21 runtime (JAVA_HOME or java on
+# the PATH), the jar from `./gradlew bootJar` and the PostgreSQL database from application.yml with data loaded.
+set -eu
+
+cd "$(dirname "$0")/.."
+JAR=${JAR:-build/libs/accountspayable-0.0.1-SNAPSHOT.jar}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+RESULTS=${RESULTS:-build/loadtest}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+mkdir -p "$RESULTS"
+
+run() {
+    name=$1
+    shift
+    "$JAVA" -jar "$JAR" --spring.jpa.show-sql=false "$@" > "$RESULTS/$name.log" 2>&1 &
+    pid=$!
+    tries=0
+    until curl -sf -o /dev/null -u admin:admin "$BASE_URL/api/accounts/scroll?size=1"; do
+        tries=$((tries + 1))
+        if [ "$tries" -gt 120 ] || ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application did not start, see $RESULTS/$name.log" >&2
+            kill "$pid" 2>/dev/null || true
+            exit 1
+        fi
+        sleep 1
+    done
+    k6 run --quiet --summary-export "$RESULTS/$name.json" loadtest/accounts-burst.js || true
+    kill "$pid"
+    wait "$pid" || true
+}
+
+run platform
+run virtual --spring.profiles.active=virtual-threads
+
+printf '%-10s %10s %10s %10s %10s %8s\n' mode 'req/s' 'p50 ms' 'p95 ms' 'p99 ms' failed
+for name in platform virtual; do
+    jq -r --arg name "$name" '[$name,
+            (.metrics.http_reqs.rate | floor),
+            (.metrics.http_req_duration["p(50)"] | floor),
+            (.metrics.http_req_duration["p(95)"] | floor),
+            (.metrics.http_req_duration["p(99)"] | floor),
+            .metrics.http_req_failed.value] | @tsv' "$RESULTS/$name.json" \
+        | awk -F'\t' '{ printf "%-10s %10s %10s %10s %10s %8.4f\n", $1, $2, $3, $4, $5, $6 }'
+done
@@ -0,0 +1,74 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.application.dto.AccountResponseDTO;
+import com.example.accountspayable.domain.entity.AccountEntity;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps pages of accounts between entities and DTOs the way the service does for every listing and write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountMappingBenchmark {
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private final AccountService accountService = new AccountService(null, null);
+
+    private List<AccountEntity> entities;
+    private List<AccountRequestDTO> requests;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(size);
+        requests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            AccountStatus status = AccountStatus.values()[i % AccountStatus.values().length];
+            LocalDate dueDate = LocalDate.of(2024, 1, 1).plusDays(i);
+            BigDecimal value = BigDecimal.valueOf(i * 1_000L + 99, 2);
+            entities.add(AccountEntity.builder()
+                    .id(UUID.randomUUID())
+                    .dueDate(dueDate)
+                    .paymentDate(status == AccountStatus.PAID ? dueDate : null)
+                    .value(value)
+                    .description("Fornecedor " + i)
+                    .status(status)
+                    .version(0L)
+                    .build());
+            requests.add(AccountRequestDTO.builder()
+                    .dueDate(dueDate)
+                    .value(value)
+                    .description("Fornecedor " + i)
+                    .status(status)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<AccountResponseDTO> mapToResponseDTO() {
+        return entities.stream().map(AccountService::mapToResponseDTO).toList();
+    }
+
+    @Benchmark
+    public List<AccountEntity> mapToEntity() {
+        return requests.stream().map(accountService::mapToEntity).toList();
+    }
+}
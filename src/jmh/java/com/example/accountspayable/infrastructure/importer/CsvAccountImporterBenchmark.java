@@ -0,0 +1,86 @@
+package com.example.accountspayable.infrastructure.importer;
+
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses an in-memory CSV in the upload layout, so the numbers cover parsing only and not disk or database I/O.
+ * {@code legacySplitImport} runs the previous BufferedReader and String.split implementation on the same input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvAccountImporterBenchmark {
+
+    private static final String[] STATUSES = {"PENDING", "PAID", "OVERDUE"};
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    private final CsvAccountImporter importer = new CsvAccountImporter();
+    private final LegacyCsvAccountImporter legacyImporter = new LegacyCsvAccountImporter();
+
+    private byte[] csv;
+
+    @Setup
+    public void setUp() {
+        csv = sampleCsv(rows);
+    }
+
+    @Benchmark
+    public void importFromCsv(Blackhole blackhole) {
+        importer.importFromCsv(new ByteArrayInputStream(csv), consumer(blackhole));
+    }
+
+    @Benchmark
+    public void legacySplitImport(Blackhole blackhole) {
+        legacyImporter.importFromCsv(new ByteArrayInputStream(csv), consumer(blackhole));
+    }
+
+    private CsvRowHandler consumer(Blackhole blackhole) {
+        return new CsvRowHandler() {
+            @Override
+            public void onRow(long line, AccountRequestDTO account) {
+                blackhole.consume(account);
+            }
+
+            @Override
+            public void onError(long line, String message) {
+                blackhole.consume(message);
+            }
+        };
+    }
+
+    /**
+     * Builds a CSV in the column layout expected by {@link CsvAccountImporter}, mixing all statuses and
+     * non-ASCII descriptions.
+     */
+    static byte[] sampleCsv(int rows) {
+        StringBuilder builder = new StringBuilder(rows * 64);
+        builder.append("dueDate,paymentDate,value,description,status\n");
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < rows; i++) {
+            String status = STATUSES[i % STATUSES.length];
+            LocalDate dueDate = start.plusDays(i % 365);
+            builder.append(dueDate).append(',')
+                    .append("PAID".equals(status) ? dueDate.minusDays(2).toString() : "").append(',')
+                    .append(i % 100_000).append('.').append(i % 90 + 10).append(',')
+                    .append("Fornecedor ").append(i).append(" - conta de serviços").append(',')
+                    .append(status).append('\n');
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.accountspayable.infrastructure.importer;
+
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.domain.enums.AccountStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * The String.split based importer that {@link AccountCsvParser} replaced, kept as the baseline for
+ * {@link CsvAccountImporterBenchmark}.
+ */
+class LegacyCsvAccountImporter {
+
+    private static final int COLUMNS = 5;
+
+    /**
+     * Streams the CSV rows to the handler as they are read, so the file is never held in memory.
+     * A malformed row is reported through {@link CsvRowHandler#onError} and parsing continues.
+     */
+    void importFromCsv(InputStream inputStream, CsvRowHandler handler) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 1;
+
+            reader.readLine();
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                AccountRequestDTO account;
+                try {
+                    account = parseLine(line);
+                } catch (RuntimeException e) {
+                    handler.onError(lineNumber, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+                    continue;
+                }
+                handler.onRow(lineNumber, account);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse CSV file: " + e.getMessage());
+        }
+    }
+
+    private AccountRequestDTO parseLine(String line) {
+        String[] values = line.split(",");
+        if (values.length < COLUMNS) {
+            throw new IllegalArgumentException("Expected " + COLUMNS + " columns but found " + values.length);
+        }
+
+        String description = values[3].trim();
+        if (description.isEmpty()) {
+            throw new IllegalArgumentException("Description is required");
+        }
+
+        return AccountRequestDTO.builder()
+                .dueDate(LocalDate.parse(values[0].trim()))
+                .paymentDate(values[1].trim().isEmpty() ? null : LocalDate.parse(values[1].trim()))
+                .value(new BigDecimal(values[2].trim()))
+                .description(description)
+                .status(AccountStatus.valueOf(values[4].trim().toUpperCase()))
+                .build();
+    }
+}
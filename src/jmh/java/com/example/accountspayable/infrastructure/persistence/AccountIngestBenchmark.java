@@ -0,0 +1,154 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import com.example.accountspayable.PostgresTestDatabase;
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.domain.entity.AccountEntity;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import com.example.accountspayable.domain.repository.AccountRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the same rows into {@code accounts} through each ingestion path: JPA {@code saveAll} with Hibernate JDBC
+ * batching, the JDBC batch behind the {@code BATCH} import engine and the staged COPY behind {@code COPY}. Needs
+ * {@code TEST_DATABASE_URL} or Docker, like the database tests; the table is truncated before every iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccountIngestBenchmark {
+
+    private static final AccountStatus[] STATUSES = AccountStatus.values();
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"1000", "50000"})
+    private int rows;
+
+    private PostgresTestDatabase database;
+    private AnnotationConfigApplicationContext context;
+    private AccountRepository accountRepository;
+    private AccountJdbcRepository accountJdbcRepository;
+    private List<AccountRequestDTO> accounts;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = PostgresTestDatabase.create();
+        context = new AnnotationConfigApplicationContext();
+        context.getBeanFactory().registerSingleton("dataSource", database.dataSource());
+        context.register(IngestConfiguration.class);
+        context.refresh();
+        accountRepository = context.getBean(AccountRepository.class);
+        accountJdbcRepository = context.getBean(AccountJdbcRepository.class);
+
+        accounts = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            AccountStatus status = STATUSES[i % STATUSES.length];
+            LocalDate dueDate = LocalDate.of(2024, 1, 1).plusDays(i % 365);
+            accounts.add(AccountRequestDTO.builder()
+                    .dueDate(dueDate)
+                    .paymentDate(status == AccountStatus.PAID ? dueDate : null)
+                    .value(BigDecimal.valueOf(i * 1_000L + 99, 2))
+                    .description("Fornecedor " + i + ", conta de serviços")
+                    .status(status)
+                    .build());
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        new JdbcTemplate(database.dataSource()).execute("TRUNCATE accounts");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        context.close();
+        database.close();
+    }
+
+    @Benchmark
+    public int jpaSaveAll() {
+        List<AccountEntity> entities = new ArrayList<>(accounts.size());
+        for (AccountRequestDTO account : accounts) {
+            entities.add(AccountEntity.builder()
+                    .dueDate(account.getDueDate())
+                    .paymentDate(account.getPaymentDate())
+                    .value(account.getValue())
+                    .description(account.getDescription())
+                    .status(account.getStatus())
+                    .build());
+        }
+        return accountRepository.saveAll(entities).size();
+    }
+
+    @Benchmark
+    public int jdbcBatchInsert() {
+        return accountJdbcRepository.insertAll(accounts);
+    }
+
+    @Benchmark
+    public int copy() {
+        return accountJdbcRepository.copyAll(accounts);
+    }
+
+    /**
+     * Wires only the persistence beans, so starting the benchmark does not bring up the web layer, the import jobs
+     * or the schedulers of the full application.
+     */
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackageClasses = AccountRepository.class)
+    @Import(AccountJdbcRepository.class)
+    static class IngestConfiguration {
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(AccountEntity.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of(
+                    "hibernate.jdbc.batch_size", BATCH_SIZE,
+                    "hibernate.order_inserts", true));
+            return factory;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.accountspayable.infrastructure.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request authentication cost: HTTP Basic checks the password with BCrypt on every call, while a bearer token
+ * costs one HMAC verification the first time and a cache lookup afterwards. {@code legacyTokenValidation} is the
+ * previous JwtUtil, which verified the token three times per check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthenticationBenchmark {
+
+    private AuthenticationManager authenticationManager;
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private LegacyJwtUtil legacyJwtUtil;
+    private String token;
+    private String legacyToken;
+
+    @Setup
+    public void setUp() {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(new InMemoryUserDetailsManager(User.builder()
+                .username("admin")
+                .password(passwordEncoder.encode("admin"))
+                .roles("USER")
+                .build()));
+        provider.setPasswordEncoder(passwordEncoder);
+        authenticationManager = new ProviderManager(provider);
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "benchmark-secret-with-at-least-thirty-two-bytes");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", Duration.ofHours(10));
+        jwtUtil.init();
+        filter = new JwtAuthenticationFilter(jwtUtil, 10_000, Duration.ofMinutes(5));
+        token = jwtUtil.generateToken("admin", List.of("ROLE_USER"));
+
+        legacyJwtUtil = new LegacyJwtUtil();
+        legacyToken = legacyJwtUtil.generateToken("admin");
+    }
+
+    @Benchmark
+    public Authentication httpBasic() {
+        return authenticationManager.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "admin"));
+    }
+
+    @Benchmark
+    public boolean legacyTokenValidation() {
+        return legacyJwtUtil.isTokenValid(legacyToken, "admin");
+    }
+
+    @Benchmark
+    public Object tokenVerification() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public Authentication cachedBearerToken() {
+        return filter.authenticate(token);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.accountspayable.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.util.Date;
+
+/**
+ * The previous {@link JwtUtil}, which parsed and verified the token once per claim it read, kept as the baseline for
+ * {@link AuthenticationBenchmark}. Its original key, {@code "yourSecretKey"}, is too short for HS256 and could not
+ * sign anything, so the baseline uses a base64 key of the same kind that is long enough.
+ */
+class LegacyJwtUtil {
+
+    private final String secretKey = "bGVnYWN5LWJlbmNobWFyay1zZWNyZXQtd2l0aC0zMi1ieXRlcw==";
+
+    String generateToken(String username) {
+        return Jwts.builder()
+                .setSubject(username)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
+                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .compact();
+    }
+
+    Claims extractClaims(String token) {
+        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+    }
+
+    String extractUsername(String token) {
+        return extractClaims(token).getSubject();
+    }
+
+    boolean isTokenValid(String token, String username) {
+        return extractUsername(token).equals(username) && !isTokenExpired(token);
+    }
+
+    private boolean isTokenExpired(String token) {
+        return extractClaims(token).getExpiration().before(new Date());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.accountspayable.presentation;
+
+import com.example.accountspayable.application.dto.AccountResponseDTO;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import com.example.accountspayable.presentation.dto.ResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes the body of {@code GET /api/accounts}: pages go out as {@link PagedModel}, as configured on the
+ * controller, through an ObjectMapper built with the same defaults Spring Boot applies and
+ * the filter provider {@code JacksonConfig} adds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    private static final long TOTAL_ACCOUNTS = 300_000;
+
+    @Param({"20", "1000"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+            .build();
+
+    private ResponseDTO<PagedModel<AccountResponseDTO>> response;
+
+    @Setup
+    public void setUp() {
+        List<AccountResponseDTO> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            AccountStatus status = AccountStatus.values()[i % AccountStatus.values().length];
+            LocalDate dueDate = LocalDate.of(2024, 1, 1).plusDays(i);
+            content.add(AccountResponseDTO.builder()
+                    .id(UUID.randomUUID())
+                    .dueDate(dueDate)
+                    .paymentDate(status == AccountStatus.PAID ? dueDate : null)
+                    .value(BigDecimal.valueOf(i * 1_000L + 99, 2))
+                    .description("Fornecedor " + i + " - conta de serviços")
+                    .status(status)
+                    .version(0L)
+                    .build());
+        }
+        response = ResponseDTO.<PagedModel<AccountResponseDTO>>builder()
+                .status("success")
+                .message("Accounts retrieved successfully")
+                .data(new PagedModel<>(new PageImpl<>(content, PageRequest.of(0, pageSize), TOTAL_ACCOUNTS)))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -2,8 +2,10 @@ package com.example.accountspayable;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class AccountsPayableApplication {
     public static void main(String[] args) {
         SpringApplication.run(AccountsPayableApplication.class, args);
@@ -0,0 +1,268 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.application.dto.BulkAccountUpdateDTO;
+import com.example.accountspayable.application.dto.BulkItemResultDTO;
+import com.example.accountspayable.application.dto.BulkStatusUpdateDTO;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import com.example.accountspayable.infrastructure.config.CacheConfig;
+import com.example.accountspayable.infrastructure.persistence.AccountJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Applies arrays of creates, updates and status changes as JDBC batches, one transaction per chunk of
+ * {@code accounts.bulk.chunk-size} items, and reports the outcome of every item.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountBulkService {
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+    private static final String ACCOUNT_NOT_FOUND = "Account not found";
+    private static final String ACCOUNT_MODIFIED = "Account was modified by another request";
+
+    private final AccountJdbcRepository accountJdbcRepository;
+    private final CacheManager cacheManager;
+
+    @Value("${accounts.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${accounts.bulk.max-items:10000}")
+    private int maxItems;
+
+    public List<BulkItemResultDTO> createAccounts(List<AccountRequestDTO> accounts) {
+        checkSize(accounts.size());
+        BulkItemResultDTO[] results = new BulkItemResultDTO[accounts.size()];
+        UUID[] ids = new UUID[accounts.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < accounts.size(); i++) {
+            String error = validate(accounts.get(i));
+            if (error != null) {
+                results[i] = result(i, null, ERROR, error);
+            } else {
+                ids[i] = UUID.randomUUID();
+                valid.add(i);
+            }
+        }
+
+        writeInChunks(valid, ids, results, chunk -> {
+            accountJdbcRepository.insertAll(
+                    chunk.stream().map(i -> ids[i]).toList(),
+                    chunk.stream().map(accounts::get).toList());
+            int[] counts = new int[chunk.size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+
+        boolean paidCreated = valid.stream()
+                .anyMatch(i -> SUCCESS.equals(results[i].getStatus()) && accounts.get(i).getStatus() == AccountStatus.PAID);
+        if (paidCreated) {
+            clearCache(CacheConfig.TOTAL_PAID_CACHE);
+        }
+        return Arrays.asList(results);
+    }
+
+    public List<BulkItemResultDTO> updateAccounts(List<BulkAccountUpdateDTO> updates) {
+        checkSize(updates.size());
+        BulkItemResultDTO[] results = new BulkItemResultDTO[updates.size()];
+        UUID[] ids = new UUID[updates.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < updates.size(); i++) {
+            BulkAccountUpdateDTO update = updates.get(i);
+            ids[i] = update.getId();
+            String error = update.getId() == null ? "Id is required" : validate(update.getAccount());
+            if (error != null) {
+                results[i] = result(i, update.getId(), ERROR, error);
+            } else {
+                valid.add(i);
+            }
+        }
+
+        writeInChunks(valid, ids, results, chunk -> accountJdbcRepository.updateAll(
+                chunk.stream().map(i -> ids[i]).toList(),
+                chunk.stream().map(i -> updates.get(i).getAccount()).toList()));
+        explainRejectedUpdates(valid, ids, results, i -> updates.get(i).getAccount().getStatus());
+
+        evictUpdated(valid, ids, results);
+        return Arrays.asList(results);
+    }
+
+    public List<BulkItemResultDTO> updateAccountStatuses(List<BulkStatusUpdateDTO> updates) {
+        checkSize(updates.size());
+        BulkItemResultDTO[] results = new BulkItemResultDTO[updates.size()];
+        UUID[] ids = new UUID[updates.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < updates.size(); i++) {
+            BulkStatusUpdateDTO update = updates.get(i);
+            ids[i] = update.getId();
+            if (update.getId() == null) {
+                results[i] = result(i, null, ERROR, "Id is required");
+            } else if (update.getStatus() == null) {
+                results[i] = result(i, update.getId(), ERROR, "Status is required");
+            } else {
+                valid.add(i);
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        writeInChunks(valid, ids, results, chunk -> accountJdbcRepository.updateStatuses(
+                chunk.stream().map(i -> ids[i]).toList(),
+                chunk.stream().map(i -> updates.get(i).getStatus()).toList(),
+                today));
+        explainUnmatched(valid, ids, results, i -> updates.get(i).getStatus());
+
+        evictUpdated(valid, ids, results);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Writes the items chunk by chunk. When the database rejects a chunk, its items are retried one at a time
+     * so a single bad item does not fail its neighbours.
+     */
+    private void writeInChunks(List<Integer> indexes, UUID[] ids, BulkItemResultDTO[] results, ChunkWriter writer) {
+        for (int from = 0; from < indexes.size(); from += chunkSize) {
+            List<Integer> chunk = indexes.subList(from, Math.min(from + chunkSize, indexes.size()));
+            try {
+                int[] counts = writer.write(chunk);
+                for (int i = 0; i < chunk.size(); i++) {
+                    results[chunk.get(i)] = countResult(chunk.get(i), ids[chunk.get(i)], counts[i]);
+                }
+            } catch (DataAccessException e) {
+                for (Integer index : chunk) {
+                    try {
+                        results[index] = countResult(index, ids[index], writer.write(List.of(index))[0]);
+                    } catch (DataAccessException itemError) {
+                        results[index] = result(index, ids[index], ERROR, itemError.getMostSpecificCause().getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Items the conditional update did not match either do not exist, are in a status that may not move to the
+     * requested one, or were changed since the version they carry, the same distinction
+     * {@code AccountService.updateAccount} makes.
+     */
+    private void explainRejectedUpdates(List<Integer> indexes, UUID[] ids, BulkItemResultDTO[] results,
+                                        IntFunction<AccountStatus> requested) {
+        List<Integer> unmatched = unmatched(indexes, results);
+        if (unmatched.isEmpty()) {
+            return;
+        }
+        Map<UUID, AccountStatus> current = accountJdbcRepository.findStatuses(unmatched.stream().map(i -> ids[i]).toList());
+        for (Integer index : unmatched) {
+            AccountStatus status = current.get(ids[index]);
+            if (status != null && !status.canMoveTo(requested.apply(index))) {
+                results[index] = result(index, ids[index], ERROR,
+                        AccountStatusConflictException.message(status, requested.apply(index)));
+            } else if (status != null) {
+                results[index] = result(index, ids[index], ERROR, ACCOUNT_MODIFIED);
+            }
+        }
+    }
+
+    /**
+     * Items the conditional status update did not match either do not exist, already have the requested status,
+     * which counts as success, or are in a status that may not move to it.
+     */
+    private void explainUnmatched(List<Integer> indexes, UUID[] ids, BulkItemResultDTO[] results,
+                                  IntFunction<AccountStatus> requested) {
+        List<Integer> unmatched = unmatched(indexes, results);
+        if (unmatched.isEmpty()) {
+            return;
+        }
+        Map<UUID, AccountStatus> current = accountJdbcRepository.findStatuses(unmatched.stream().map(i -> ids[i]).toList());
+        for (Integer index : unmatched) {
+            AccountStatus status = current.get(ids[index]);
+            if (status == requested.apply(index)) {
+                results[index] = result(index, ids[index], SUCCESS, null);
+            } else if (status != null) {
+                results[index] = result(index, ids[index], ERROR,
+                        AccountStatusConflictException.message(status, requested.apply(index)));
+            }
+        }
+    }
+
+    private static List<Integer> unmatched(List<Integer> indexes, BulkItemResultDTO[] results) {
+        return indexes.stream()
+                .filter(i -> ERROR.equals(results[i].getStatus()) && ACCOUNT_NOT_FOUND.equals(results[i].getMessage()))
+                .toList();
+    }
+
+    private void evictUpdated(List<Integer> indexes, UUID[] ids, BulkItemResultDTO[] results) {
+        Cache accounts = cacheManager.getCache(CacheConfig.ACCOUNTS_CACHE);
+        boolean updated = false;
+        for (Integer index : indexes) {
+            if (SUCCESS.equals(results[index].getStatus())) {
+                updated = true;
+                if (accounts != null) {
+                    accounts.evict(ids[index]);
+                }
+            }
+        }
+        if (updated) {
+            clearCache(CacheConfig.TOTAL_PAID_CACHE);
+        }
+    }
+
+    private void clearCache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void checkSize(int size) {
+        if (size > maxItems) {
+            throw new RuntimeException("Bulk requests are limited to " + maxItems + " items");
+        }
+    }
+
+    private String validate(AccountRequestDTO account) {
+        if (account == null) {
+            return "Account is required";
+        } else if (account.getDueDate() == null) {
+            return "Due date is required";
+        } else if (account.getValue() == null) {
+            return "Value is required";
+        } else if (account.getDescription() == null || account.getDescription().isBlank()) {
+            return "Description is required";
+        } else if (account.getStatus() == null) {
+            return "Status is required";
+        }
+        return null;
+    }
+
+    private BulkItemResultDTO countResult(int index, UUID id, int count) {
+        return count > 0 ? result(index, id, SUCCESS, null) : result(index, id, ERROR, ACCOUNT_NOT_FOUND);
+    }
+
+    private BulkItemResultDTO result(int index, UUID id, String status, String message) {
+        return BulkItemResultDTO.builder()
+                .index(index)
+                .id(id)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        int[] write(List<Integer> indexes);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.AccountChangesDTO;
+import com.example.accountspayable.application.dto.AccountEventDTO;
+import com.example.accountspayable.infrastructure.persistence.AccountEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Incremental sync for downstream systems: a consumer stores {@code nextSince} and asks only for what changed
+ * after it, instead of listing every account again. A consumer that fell behind the retention cleanup gets an
+ * {@link AccountChangesExpiredException} instead of the events that are left.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountChangeFeedService {
+
+    private final AccountEventRepository accountEventRepository;
+
+    @Transactional(readOnly = true)
+    public AccountChangesDTO getChanges(long since, int limit) {
+        List<AccountEventDTO> rows = accountEventRepository.findSince(since, limit + 1);
+        // read after the events: a cleanup committing in between then shows up here instead of as a silent gap
+        long prunedThrough = accountEventRepository.findPrunedThrough();
+        if (since < prunedThrough) {
+            throw new AccountChangesExpiredException(since, prunedThrough);
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<AccountEventDTO> events = hasMore ? rows.subList(0, limit) : rows;
+
+        return AccountChangesDTO.builder()
+                .events(events)
+                .nextSince(events.isEmpty() ? since : events.get(events.size() - 1).getSequence())
+                .hasMore(hasMore)
+                .build();
+    }
+}
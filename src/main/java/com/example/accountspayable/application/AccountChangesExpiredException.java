@@ -0,0 +1,19 @@
+package com.example.accountspayable.application;
+
+import lombok.Getter;
+
+/**
+ * The retention cleanup deleted events after the {@code since} a consumer asked for, so continuing from it would
+ * silently skip changes.
+ */
+@Getter
+public class AccountChangesExpiredException extends RuntimeException {
+
+    private final long prunedThrough;
+
+    public AccountChangesExpiredException(long since, long prunedThrough) {
+        super("Changes after sequence " + since + " up to " + prunedThrough
+                + " were deleted; rescan the accounts and continue with since=" + prunedThrough);
+        this.prunedThrough = prunedThrough;
+    }
+}
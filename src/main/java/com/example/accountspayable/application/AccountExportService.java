@@ -0,0 +1,103 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.AccountResponseDTO;
+import com.example.accountspayable.domain.entity.AccountEntity;
+import com.example.accountspayable.domain.enums.ExportFormat;
+import com.example.accountspayable.infrastructure.persistence.AccountJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Writes full extracts of the accounts matching the listing filters. Rows go from the database cursor straight to
+ * the response stream, so memory use does not depend on how many accounts match.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountExportService {
+
+    static final String CSV_HEADER = "dueDate,paymentDate,value,description,status";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AccountJdbcRepository accountJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${accounts.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * CSV uses the column layout {@code CsvAccountImporter} reads, so an extract can be imported back as is.
+     * NDJSON writes one account per line in the same shape as the REST responses.
+     */
+    public void exportAccounts(LocalDate dueDate, String description, ExportFormat format, OutputStream outputStream)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        ObjectWriter jsonWriter = objectMapper.writerFor(AccountResponseDTO.class)
+                .with(new SimpleFilterProvider().setFailOnUnknownId(false));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            accountJdbcRepository.streamAccounts(dueDate, description, fetchSize, account -> {
+                try {
+                    if (format == ExportFormat.CSV) {
+                        writeCsvRow(writer, account);
+                    } else {
+                        writer.write(jsonWriter.writeValueAsString(AccountService.mapToResponseDTO(account)));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, AccountEntity account) throws IOException {
+        writer.write(account.getDueDate().toString());
+        writer.write(',');
+        if (account.getPaymentDate() != null) {
+            writer.write(account.getPaymentDate().toString());
+        }
+        writer.write(',');
+        writer.write(account.getValue().toPlainString());
+        writer.write(',');
+        writeCsvField(writer, account.getDescription());
+        writer.write(',');
+        writer.write(account.getStatus().name());
+        writer.write('\n');
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,383 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.application.dto.ImportBatchDTO;
+import com.example.accountspayable.application.dto.ImportErrorDTO;
+import com.example.accountspayable.application.dto.ImportResultDTO;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import com.example.accountspayable.domain.enums.ImportEngine;
+import com.example.accountspayable.infrastructure.config.CacheConfig;
+import com.example.accountspayable.infrastructure.config.ThreadFactories;
+import com.example.accountspayable.infrastructure.importer.CsvAccountImporter;
+import com.example.accountspayable.infrastructure.importer.CsvChunk;
+import com.example.accountspayable.infrastructure.importer.CsvRowHandler;
+import com.example.accountspayable.infrastructure.persistence.AccountJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class AccountImportService {
+
+    private static final PendingBatch END_OF_INPUT = new PendingBatch(List.of(), List.of());
+
+    private final CsvAccountImporter csvAccountImporter;
+    private final AccountJdbcRepository accountJdbcRepository;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${accounts.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${accounts.import.copy-batch-size:50000}")
+    private int copyBatchSize;
+
+    @Value("${accounts.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${accounts.import.parallel.chunk-size:8MB}")
+    private DataSize chunkSize;
+
+    @Value("${accounts.import.parallel.queue-capacity:8}")
+    private int queueCapacity;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * Parses and inserts the CSV in batches, so memory stays bounded by one batch whatever the file size. The
+     * {@code BATCH} engine writes {@code accounts.import.batch-size} rows per JDBC batch; {@code COPY} streams
+     * {@code accounts.import.copy-batch-size} rows per COPY. Each written batch is reported to the progress listener.
+     */
+    public ImportResultDTO importAccountsFromCsv(InputStream inputStream, ImportEngine engine,
+                                                 Consumer<ImportBatchDTO> progressListener) {
+        ImportTally tally = new ImportTally(engine, progressListener);
+        BatchCollector collector = new BatchCollector(tally, batchSize(engine), batch -> write(tally, engine, batch));
+        return importTimer(engine).record(() -> {
+            csvAccountImporter.importFromCsv(inputStream, collector);
+            collector.flush();
+            return tally.toResult();
+        });
+    }
+
+    /**
+     * Imports a file on disk with {@code parallelism} parser threads, each working on its own line-aligned chunk,
+     * and as many writer threads inserting the batches they produce. Parsers hand batches over through a queue of
+     * {@code accounts.import.parallel.queue-capacity} entries and block while it is full, so memory stays bounded
+     * however far parsing gets ahead of the database. Parsers are CPU-bound and always run on platform threads; the
+     * writers, which mostly wait on JDBC, are virtual when {@code spring.threads.virtual.enabled} is set.
+     */
+    public ImportResultDTO importAccountsFromCsv(Path file, int parallelism, ImportEngine engine,
+                                                 Consumer<ImportBatchDTO> progressListener) {
+        ImportTally tally = new ImportTally(engine, progressListener);
+        return importTimer(engine).record(() -> {
+            List<CsvChunk> chunks = csvAccountImporter.split(file, chunkSize.toBytes());
+            new ParallelImport(file, parallelism, engine, tally).run(chunks);
+            return tally.toResult();
+        });
+    }
+
+    private int batchSize(ImportEngine engine) {
+        return engine == ImportEngine.COPY ? copyBatchSize : batchSize;
+    }
+
+    private Timer importTimer(ImportEngine engine) {
+        return Timer.builder("accounts.import.duration")
+                .tag("engine", engine.name())
+                .register(meterRegistry);
+    }
+
+    private void write(ImportTally tally, ImportEngine engine, PendingBatch batch) {
+        long started = System.nanoTime();
+        int inserted;
+        try {
+            inserted = engine == ImportEngine.COPY
+                    ? accountJdbcRepository.copyAll(batch.accounts())
+                    : accountJdbcRepository.insertAll(batch.accounts());
+        } catch (DataAccessException e) {
+            inserted = insertOneByOne(tally, batch);
+        }
+        tally.batchWriteTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        tally.written(batch, inserted);
+    }
+
+    /**
+     * Fallback when the database rejects a batch: retries each row on its own so only the offending
+     * rows end up in the error report.
+     */
+    private int insertOneByOne(ImportTally tally, PendingBatch batch) {
+        int inserted = 0;
+        for (int i = 0; i < batch.accounts().size(); i++) {
+            try {
+                inserted += accountJdbcRepository.insertAll(List.of(batch.accounts().get(i)));
+            } catch (DataAccessException e) {
+                tally.reject(batch.lines().get(i), e.getMostSpecificCause().getMessage());
+            }
+        }
+        return inserted;
+    }
+
+    private record PendingBatch(List<AccountRequestDTO> accounts, List<Long> lines) {
+    }
+
+    /**
+     * Groups parsed rows into batches of {@code size} rows and hands each full batch to the sink.
+     */
+    private static class BatchCollector implements CsvRowHandler {
+
+        private final ImportTally tally;
+        private final int size;
+        private final Consumer<PendingBatch> sink;
+        private List<AccountRequestDTO> accounts = new ArrayList<>();
+        private List<Long> lines = new ArrayList<>();
+
+        private BatchCollector(ImportTally tally, int size, Consumer<PendingBatch> sink) {
+            this.tally = tally;
+            this.size = size;
+            this.sink = sink;
+        }
+
+        @Override
+        public void onRow(long lineNumber, AccountRequestDTO account) {
+            accounts.add(account);
+            lines.add(lineNumber);
+            if (accounts.size() >= size) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onError(long lineNumber, String message) {
+            tally.parsed(1);
+            tally.reject(lineNumber, message);
+        }
+
+        private void flush() {
+            if (accounts.isEmpty()) {
+                return;
+            }
+            tally.parsed(accounts.size());
+            sink.accept(new PendingBatch(accounts, lines));
+            accounts = new ArrayList<>();
+            lines = new ArrayList<>();
+        }
+    }
+
+    private class ParallelImport {
+
+        private final Path file;
+        private final int parallelism;
+        private final ImportEngine engine;
+        private final ImportTally tally;
+        private final BlockingQueue<PendingBatch> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        private ParallelImport(Path file, int parallelism, ImportEngine engine, ImportTally tally) {
+            this.file = file;
+            this.parallelism = parallelism;
+            this.engine = engine;
+            this.tally = tally;
+        }
+
+        private void run(List<CsvChunk> chunks) {
+            ExecutorService parsers = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("account-import-parser-"));
+            ExecutorService writers = Executors.newFixedThreadPool(parallelism,
+                    ThreadFactories.blocking("account-import-writer-", virtualThreads));
+            try {
+                List<Future<?>> writerTasks = new ArrayList<>();
+                for (int i = 0; i < parallelism; i++) {
+                    writerTasks.add(writers.submit(this::drain));
+                }
+                List<Future<?>> parserTasks = chunks.stream()
+                        .<Future<?>>map(chunk -> parsers.submit(() -> parse(chunk)))
+                        .toList();
+
+                awaitAll(parserTasks);
+                for (int i = 0; i < parallelism; i++) {
+                    enqueue(END_OF_INPUT);
+                }
+                awaitAll(writerTasks);
+            } finally {
+                parsers.shutdownNow();
+                writers.shutdownNow();
+            }
+        }
+
+        private void parse(CsvChunk chunk) {
+            BatchCollector collector = new BatchCollector(tally, batchSize(engine), this::enqueue);
+            csvAccountImporter.importChunk(file, chunk, collector);
+            collector.flush();
+            tally.chunkParsed(chunk.length());
+        }
+
+        private void drain() {
+            try {
+                PendingBatch batch;
+                while ((batch = queue.take()) != END_OF_INPUT) {
+                    write(tally, engine, batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+                throw e;
+            }
+        }
+
+        /**
+         * Blocks while the queue is full, giving up if a writer has failed and will never take from it again.
+         */
+        private void enqueue(PendingBatch batch) {
+            try {
+                while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                    RuntimeException writerFailure = failure.get();
+                    if (writerFailure != null) {
+                        throw writerFailure;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Import interrupted");
+            }
+        }
+
+        private void awaitAll(List<Future<?>> tasks) {
+            for (Future<?> task : tasks) {
+                try {
+                    task.get();
+                } catch (ExecutionException e) {
+                    failure.compareAndSet(null, e.getCause() instanceof RuntimeException runtime
+                            ? runtime : new RuntimeException(e.getCause()));
+                    throw failure.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Import interrupted");
+                }
+            }
+        }
+    }
+
+    /**
+     * Running totals of one import. Shared by the parser and writer threads of a parallel import, hence synchronized.
+     * Rows are rejected out of order there, so the reported errors are the first ones by line number, as in a
+     * sequential import, and not the first ones to arrive.
+     * Inserted and rejected rows also go to the {@code accounts.import.rows} counter, whose rate is the import
+     * throughput across all jobs.
+     */
+    private class ImportTally {
+
+        private final Consumer<ImportBatchDTO> progressListener;
+        private final Counter insertedRows;
+        private final Counter rejectedRows;
+        private final Timer batchWriteTimer;
+        private final long startedAt = System.currentTimeMillis();
+        private final PriorityQueue<ImportErrorDTO> errors =
+                new PriorityQueue<>(Comparator.comparingLong(ImportErrorDTO::getLine).reversed());
+        private long rowsParsed;
+        private long rowsInserted;
+        private long rowsRejected;
+        private long batches;
+        private Long bytesParsed;
+
+        private ImportTally(ImportEngine engine, Consumer<ImportBatchDTO> progressListener) {
+            this.progressListener = progressListener;
+            this.insertedRows = rowCounter(engine, "inserted");
+            this.rejectedRows = rowCounter(engine, "rejected");
+            this.batchWriteTimer = Timer.builder("accounts.import.batch.duration")
+                    .tag("engine", engine.name())
+                    .register(meterRegistry);
+        }
+
+        private Counter rowCounter(ImportEngine engine, String outcome) {
+            return Counter.builder("accounts.import.rows")
+                    .tag("engine", engine.name())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        private synchronized void parsed(int rows) {
+            rowsParsed += rows;
+        }
+
+        private synchronized void chunkParsed(long bytes) {
+            bytesParsed = (bytesParsed != null ? bytesParsed : 0) + bytes;
+        }
+
+        private synchronized void reject(long lineNumber, String message) {
+            rowsRejected++;
+            rejectedRows.increment();
+            if (errors.size() >= maxReportedErrors) {
+                if (maxReportedErrors <= 0 || errors.peek().getLine() <= lineNumber) {
+                    return;
+                }
+                errors.poll();
+            }
+            errors.add(ImportErrorDTO.builder()
+                    .line(lineNumber)
+                    .message(message)
+                    .build());
+        }
+
+        private synchronized void written(PendingBatch batch, int inserted) {
+            if (inserted > 0 && batch.accounts().stream().anyMatch(account -> account.getStatus() == AccountStatus.PAID)) {
+                Cache totalPaid = cacheManager.getCache(CacheConfig.TOTAL_PAID_CACHE);
+                if (totalPaid != null) {
+                    totalPaid.clear();
+                }
+            }
+
+            rowsInserted += inserted;
+            insertedRows.increment(inserted);
+            batches++;
+            progressListener.accept(ImportBatchDTO.builder()
+                    .batchNumber(batches)
+                    .batchRows(batch.accounts().size())
+                    .batchInserted(inserted)
+                    .rowsParsed(rowsParsed)
+                    .rowsInserted(rowsInserted)
+                    .rowsRejected(rowsRejected)
+                    .bytesParsed(bytesParsed)
+                    .elapsedMillis(System.currentTimeMillis() - startedAt)
+                    .build());
+        }
+
+        private synchronized ImportResultDTO toResult() {
+            List<ImportErrorDTO> sortedErrors = new ArrayList<>(errors);
+            sortedErrors.sort(Comparator.comparingLong(ImportErrorDTO::getLine));
+            return ImportResultDTO.builder()
+                    .rowsParsed(rowsParsed)
+                    .rowsInserted(rowsInserted)
+                    .rowsRejected(rowsRejected)
+                    .batches(batches)
+                    .elapsedMillis(System.currentTimeMillis() - startedAt)
+                    .errors(sortedErrors)
+                    .errorsTruncated(rowsRejected > errors.size())
+                    .build();
+        }
+    }
+}
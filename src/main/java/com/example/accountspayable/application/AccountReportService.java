@@ -0,0 +1,34 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.AccountReportDTO;
+import com.example.accountspayable.infrastructure.config.CacheConfig;
+import com.example.accountspayable.infrastructure.persistence.AccountReportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Aggregated views of the accounts computed by the database, so clients get a few hundred bytes of totals instead
+ * of exporting every account and pivoting it themselves.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountReportService {
+
+    private final AccountReportRepository accountReportRepository;
+
+    /**
+     * {@code asOf} is part of the cache key, so a cached report never ages its buckets across midnight.
+     */
+    @Cacheable(cacheNames = CacheConfig.REPORT_CACHE)
+    @Transactional(readOnly = true)
+    public AccountReportDTO getReport(LocalDate from, LocalDate to, LocalDate asOf) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new RuntimeException("Start date must not be after end date");
+        }
+        return accountReportRepository.report(from, to, asOf);
+    }
+}
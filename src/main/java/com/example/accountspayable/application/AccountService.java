@@ -2,96 +2,219 @@ package com.example.accountspayable.application;
 
 import com.example.accountspayable.application.dto.AccountRequestDTO;
 import com.example.accountspayable.application.dto.AccountResponseDTO;
+import com.example.accountspayable.application.dto.CursorPageDTO;
 import com.example.accountspayable.domain.entity.AccountEntity;
 import com.example.accountspayable.domain.enums.AccountStatus;
 import com.example.accountspayable.domain.repository.AccountRepository;
-import com.example.accountspayable.infrastructure.importer.CsvAccountImporter;
+import com.example.accountspayable.domain.repository.AccountSpecifications;
+import com.example.accountspayable.infrastructure.config.CacheConfig;
+import com.example.accountspayable.infrastructure.persistence.AccountJdbcRepository;
+import com.example.accountspayable.infrastructure.persistence.AccountSearchHit;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "accounts.service", histogram = true)
 public class AccountService {
 
+    private static final Sort KEYSET_SORT = Sort.by("dueDate", "id");
+    private static final Pattern SEARCH_TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     private final AccountRepository accountRepository;
-    private final CsvAccountImporter csvAccountImporter;
+    private final AccountJdbcRepository accountJdbcRepository;
 
+    @Transactional(readOnly = true)
     public Page<AccountResponseDTO> getAccounts(LocalDate dueDate, String description, Pageable pageable) {
         if (dueDate != null && description != null) {
             return accountRepository.findByDueDateAndDescription(dueDate, description, pageable)
-                    .map(this::mapToResponseDTO);
+                    .map(AccountService::mapToResponseDTO);
         } else if (dueDate != null) {
             return accountRepository.findByDueDate(dueDate, pageable)
-                    .map(this::mapToResponseDTO);
+                    .map(AccountService::mapToResponseDTO);
         } else if (description != null) {
             return accountRepository.findByDescriptionContaining(description, pageable)
-                    .map(this::mapToResponseDTO);
+                    .map(AccountService::mapToResponseDTO);
         }
         return accountRepository.findAll(pageable)
-                .map(this::mapToResponseDTO);
+                .map(AccountService::mapToResponseDTO);
+    }
+
+    /**
+     * Keyset listing ordered by (dueDate, id). Each page seeks straight to the cursor position instead of
+     * counting and skipping rows, so deep pages cost the same as the first one.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<AccountResponseDTO> scrollAccounts(LocalDate dueDate, String description, String cursor, int size) {
+        Specification<AccountEntity> specification = AccountSpecifications.matching(dueDate, description);
+        if (cursor != null) {
+            AccountCursor position = AccountCursor.decode(cursor);
+            specification = specification.and(AccountSpecifications.after(position.dueDate(), position.id()));
+        }
+
+        List<AccountEntity> rows = accountRepository.findBy(specification,
+                query -> query.sortBy(KEYSET_SORT).limit(size + 1).all());
+
+        boolean hasNext = rows.size() > size;
+        List<AccountEntity> content = hasNext ? rows.subList(0, size) : rows;
+        AccountEntity last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return CursorPageDTO.<AccountResponseDTO>builder()
+                .content(content.stream().map(AccountService::mapToResponseDTO).toList())
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new AccountCursor(last.getDueDate(), last.getId()).encode() : null)
+                .build();
+    }
+
+    /**
+     * Full-text search over descriptions, best matches first. Accents and case are ignored and every word is matched
+     * as a prefix, so "agu forn" finds "Fornecedor de água". Pages with a (rank, id) cursor like {@link #scrollAccounts}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<AccountResponseDTO> searchAccounts(String query, String cursor, int size) {
+        String tsquery = toPrefixQuery(query);
+        SearchCursor position = cursor != null ? SearchCursor.decode(cursor) : null;
+
+        List<AccountSearchHit> hits = position != null
+                ? accountJdbcRepository.search(tsquery, position.rank(), position.id(), size + 1)
+                : accountJdbcRepository.search(tsquery, null, null, size + 1);
+
+        boolean hasNext = hits.size() > size;
+        List<AccountSearchHit> content = hasNext ? hits.subList(0, size) : hits;
+        AccountSearchHit last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return CursorPageDTO.<AccountResponseDTO>builder()
+                .content(content.stream().map(hit -> mapToResponseDTO(hit.account())).toList())
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new SearchCursor(last.rank(), last.account().getId()).encode() : null)
+                .build();
     }
 
+    /**
+     * Not read-only, so cache misses are loaded from the primary: the cache is shared by every client, and a replica
+     * still behind the write that evicted the entry would put the old row back for the whole time to live.
+     */
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.ACCOUNTS_CACHE, key = "#id", unless = "#result == null")
     public Optional<AccountResponseDTO> getAccountById(UUID id) {
-        return accountRepository.findById(id).map(this::mapToResponseDTO);
+        return accountRepository.findById(id).map(AccountService::mapToResponseDTO);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.TOTAL_PAID_CACHE, allEntries = true,
+            condition = "#accountRequestDTO.status == T(com.example.accountspayable.domain.enums.AccountStatus).PAID")
     public AccountResponseDTO createAccount(AccountRequestDTO accountRequestDTO) {
         AccountEntity entity = mapToEntity(accountRequestDTO);
         AccountEntity savedEntity = accountRepository.save(entity);
         return mapToResponseDTO(savedEntity);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACCOUNTS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TOTAL_PAID_CACHE, allEntries = true)
+    })
     public AccountResponseDTO updateAccount(UUID id, AccountRequestDTO accountRequestDTO) {
-        if (!accountRepository.existsById(id)) {
-            throw new RuntimeException("Account not found");
-        }
-        AccountEntity entity = mapToEntity(accountRequestDTO);
-        entity.setId(id);
-        AccountEntity updatedEntity = accountRepository.save(entity);
-        return mapToResponseDTO(updatedEntity);
+        return accountJdbcRepository.update(id, accountRequestDTO)
+                .map(AccountService::mapToResponseDTO)
+                .orElseThrow(() -> updateFailure(id, accountRequestDTO.getStatus()));
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACCOUNTS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TOTAL_PAID_CACHE, allEntries = true)
+    })
     public void deleteAccount(UUID id) {
-        if (!accountRepository.existsById(id)) {
+        if (accountRepository.deleteAccountById(id) == 0) {
             throw new RuntimeException("Account not found");
         }
-        accountRepository.deleteById(id);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACCOUNTS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TOTAL_PAID_CACHE, allEntries = true)
+    })
+    @Transactional
     public AccountResponseDTO updateAccountStatus(UUID id, AccountStatus status) {
-        AccountEntity accountEntity = accountRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Account not found"));
-
-        accountEntity.setStatus(status);
-
-        if (status == AccountStatus.PAID) {
-            accountEntity.setPaymentDate(LocalDate.now());
-        }
-
-        AccountEntity updatedEntity = accountRepository.save(accountEntity);
-        return mapToResponseDTO(updatedEntity);
+        return accountJdbcRepository.updateStatus(id, status, LocalDate.now())
+                .map(AccountService::mapToResponseDTO)
+                .orElseGet(() -> unchangedStatus(id, status));
     }
 
+    /**
+     * Loaded from the primary for the same reason as {@link #getAccountById}.
+     */
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.TOTAL_PAID_CACHE)
     public BigDecimal getTotalPaid(LocalDate startDate, LocalDate endDate) {
         return accountRepository.findTotalPaidBetweenDates(startDate, endDate)
                 .orElse(BigDecimal.ZERO);
     }
 
-    public void importAccountsFromCsv(MultipartFile file) {
-        List<AccountRequestDTO> accounts = csvAccountImporter.importFromCsv(file);
-        accounts.forEach(this::createAccount);
+    /**
+     * Only reached when the conditional status update matched no row. Asking for the status the account already has
+     * succeeds without writing, so a retried payment keeps its original payment date. Runs inside the read-write
+     * transaction of {@link #updateAccountStatus}, so the status is read from the primary and not from a replica that
+     * may not have seen the payment yet.
+     */
+    private AccountResponseDTO unchangedStatus(UUID id, AccountStatus status) {
+        AccountEntity current = accountRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Account not found"));
+        if (current.getStatus() != status) {
+            throw new AccountStatusConflictException(current.getStatus(), status);
+        }
+        return mapToResponseDTO(current);
+    }
+
+    /**
+     * Only reached when the conditional update matched no row: the account does not exist, is in a status that may not
+     * move to the requested one, or a versioned request lost a race. The status is read with plain JDBC outside any
+     * read-only transaction, so from the primary.
+     */
+    private RuntimeException updateFailure(UUID id, AccountStatus requested) {
+        AccountStatus current = accountJdbcRepository.findStatuses(List.of(id)).get(id);
+        if (current == null) {
+            return new RuntimeException("Account not found");
+        }
+        if (!current.canMoveTo(requested)) {
+            return new AccountStatusConflictException(current, requested);
+        }
+        return new OptimisticLockingFailureException("Account was modified by another request");
+    }
+
+    /**
+     * Turns free text into a tsquery of AND-ed prefix terms. Only letters and digits survive, so nothing the user
+     * types can reach the tsquery syntax.
+     */
+    static String toPrefixQuery(String query) {
+        List<String> terms = query == null ? List.of() : SEARCH_TERM_SEPARATOR.splitAsStream(query)
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .toList();
+        if (terms.isEmpty()) {
+            throw new RuntimeException("Search query must contain at least one word");
+        }
+        return String.join(" & ", terms);
     }
 
-    private AccountEntity mapToEntity(AccountRequestDTO dto) {
+    AccountEntity mapToEntity(AccountRequestDTO dto) {
         return AccountEntity.builder()
                 .dueDate(dto.getDueDate())
                 .paymentDate(dto.getPaymentDate())
@@ -101,7 +224,10 @@ public class AccountService {
                 .build();
     }
 
-    private AccountResponseDTO mapToResponseDTO(AccountEntity entity) {
+    /**
+     * Static so other services of the package, like the export, share it without going through the service proxy.
+     */
+    static AccountResponseDTO mapToResponseDTO(AccountEntity entity) {
         return AccountResponseDTO.builder()
                 .id(entity.getId())
                 .dueDate(entity.getDueDate())
@@ -109,6 +235,7 @@ public class AccountService {
                 .value(entity.getValue())
                 .description(entity.getDescription())
                 .status(entity.getStatus())
+                .version(entity.getVersion())
                 .build();
     }
 }
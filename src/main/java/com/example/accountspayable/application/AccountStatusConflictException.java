@@ -0,0 +1,18 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.domain.enums.AccountStatus;
+
+/**
+ * A status change the account's current status does not allow, either by the transition rules or because another
+ * request changed the status first.
+ */
+public class AccountStatusConflictException extends RuntimeException {
+
+    public AccountStatusConflictException(AccountStatus current, AccountStatus target) {
+        super(message(current, target));
+    }
+
+    static String message(AccountStatus current, AccountStatus target) {
+        return "Account is " + current + " and cannot change to " + target;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.LoginRequestDTO;
+import com.example.accountspayable.application.dto.TokenResponseDTO;
+import com.example.accountspayable.infrastructure.security.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AuthService {
+
+    private final AuthenticationManager authenticationManager;
+    private final JwtUtil jwtUtil;
+
+    /**
+     * Checks the credentials (the one BCrypt verification a client pays) and issues a signed token carrying the
+     * user's authorities. Throws {@code AuthenticationException} on bad credentials.
+     */
+    public TokenResponseDTO login(LoginRequestDTO request) {
+        Authentication authentication = authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(request.getUsername(), request.getPassword()));
+        List<String> authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        return TokenResponseDTO.builder()
+                .token(jwtUtil.generateToken(authentication.getName(), authorities))
+                .tokenType("Bearer")
+                .expiresIn(jwtUtil.getExpiration().toSeconds())
+                .build();
+    }
+}
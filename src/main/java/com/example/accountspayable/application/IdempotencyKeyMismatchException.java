@@ -0,0 +1,11 @@
+package com.example.accountspayable.application;
+
+/**
+ * An Idempotency-Key was sent again with a request that differs from the one it was first used for.
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException() {
+        super("Idempotency-Key was already used for a different request");
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.infrastructure.persistence.IdempotencyKeyRepository;
+import com.example.accountspayable.infrastructure.persistence.IdempotencyKeyRepository.StoredRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Runs writes at most once per Idempotency-Key. The first request with a key claims it in {@code idempotency_keys}
+ * and stores its response; later requests with the same key and the same body get that response back, with a
+ * different body they are rejected. Keys are kept for {@code accounts.idempotency.ttl}.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${accounts.idempotency.ttl:P1D}")
+    private Duration ttl;
+
+    @Value("${accounts.idempotency.in-progress-timeout:PT10M}")
+    private Duration inProgressTimeout;
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository, ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Runs {@code action} in the transaction that claims {@code key}, so the write and its stored response commit
+     * together. A concurrent request with the same key waits for that transaction and then replays its response.
+     * Without a key the action just runs.
+     */
+    public <T> IdempotentResult<T> execute(String scope, String key, Object request, TypeReference<T> type,
+                                           Supplier<T> action) {
+        if (key == null) {
+            return new IdempotentResult<>(action.get(), false);
+        }
+        String requestHash = requestHash(key, request);
+        return transactionTemplate.execute(status -> {
+            if (!idempotencyKeyRepository.claim(scope, key, requestHash, Instant.now().plus(ttl))) {
+                return replay(scope, key, requestHash, type);
+            }
+            T result = action.get();
+            idempotencyKeyRepository.complete(scope, key, toJson(result), Instant.now().plus(ttl));
+            return new IdempotentResult<>(result, false);
+        });
+    }
+
+    /**
+     * For actions that commit in several transactions of their own, like the bulk writes: the claim is committed
+     * first and the response stored when the action returns. Until then, or until
+     * {@code accounts.idempotency.in-progress-timeout} passes, a request with the same key is rejected as a conflict.
+     */
+    public <T> IdempotentResult<T> executeInSteps(String scope, String key, Object request, TypeReference<T> type,
+                                                  Supplier<T> action) {
+        if (key == null) {
+            return new IdempotentResult<>(action.get(), false);
+        }
+        String requestHash = requestHash(key, request);
+        Boolean claimed = transactionTemplate.execute(status ->
+                idempotencyKeyRepository.claim(scope, key, requestHash, Instant.now().plus(inProgressTimeout)));
+        if (!Boolean.TRUE.equals(claimed)) {
+            return replay(scope, key, requestHash, type);
+        }
+
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            idempotencyKeyRepository.release(scope, key);
+            throw e;
+        }
+        idempotencyKeyRepository.complete(scope, key, toJson(result), Instant.now().plus(ttl));
+        return new IdempotentResult<>(result, false);
+    }
+
+    /**
+     * Replaces the stored response of {@code key}, for results that change after the first response was stored.
+     */
+    public void update(String scope, String key, Object response) {
+        idempotencyKeyRepository.complete(scope, key, toJson(response), Instant.now().plus(ttl));
+    }
+
+    /**
+     * Forgets {@code key}, so the next request with it runs again.
+     */
+    public void release(String scope, String key) {
+        idempotencyKeyRepository.release(scope, key);
+    }
+
+    public static String sha256(byte[] content) {
+        return HexFormat.of().formatHex(sha256Digest().digest(content));
+    }
+
+    public static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 is not available", e);
+        }
+    }
+
+    private <T> IdempotentResult<T> replay(String scope, String key, String requestHash, TypeReference<T> type) {
+        StoredRequest stored = idempotencyKeyRepository.find(scope, key)
+                .filter(found -> found.response() != null)
+                .orElseThrow(() -> new ConcurrencyFailureException(
+                        "A request with this Idempotency-Key is still being processed"));
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException();
+        }
+        try {
+            return new IdempotentResult<>(objectMapper.readValue(stored.response(), type), true);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to read stored response: " + e.getMessage());
+        }
+    }
+
+    private String requestHash(String key, Object request) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new RuntimeException("Idempotency-Key must have between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        try {
+            return sha256(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to read request: " + e.getMessage());
+        }
+    }
+
+    private String toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to store response: " + e.getMessage());
+        }
+    }
+}
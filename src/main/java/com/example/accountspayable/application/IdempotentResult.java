@@ -0,0 +1,7 @@
+package com.example.accountspayable.application;
+
+/**
+ * The outcome of an idempotent write; {@code replayed} when it is the stored response of an earlier request.
+ */
+public record IdempotentResult<T>(T value, boolean replayed) {
+}
@@ -0,0 +1,134 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.ImportBatchDTO;
+import com.example.accountspayable.application.dto.ImportJobStatusDTO;
+import com.example.accountspayable.application.dto.ImportResultDTO;
+import com.example.accountspayable.domain.enums.ImportEngine;
+import com.example.accountspayable.domain.enums.ImportJobState;
+import com.example.accountspayable.infrastructure.importer.CountingInputStream;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Mutable state of one background import. Written by the worker thread, read by status requests.
+ */
+class ImportJob {
+
+    @Getter
+    private final UUID id = UUID.randomUUID();
+    @Getter
+    private final Path file;
+    private final String fileName;
+    private final long fileSize;
+    @Getter
+    private final String contentSha256;
+    @Getter
+    private final String idempotencyKey;
+    @Getter
+    private final int parallelism;
+    @Getter
+    private final ImportEngine engine;
+    private final Instant submittedAt = Instant.now();
+
+    private volatile ImportJobState state = ImportJobState.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile CountingInputStream input;
+    private volatile ImportBatchDTO lastBatch;
+    private volatile ImportResultDTO result;
+    private volatile String failureMessage;
+
+    ImportJob(Path file, String fileName, long fileSize, String contentSha256, String idempotencyKey, int parallelism,
+              ImportEngine engine) {
+        this.file = file;
+        this.fileName = fileName;
+        this.fileSize = fileSize;
+        this.contentSha256 = contentSha256;
+        this.idempotencyKey = idempotencyKey;
+        this.parallelism = parallelism;
+        this.engine = engine;
+    }
+
+    /**
+     * Marks the job as running. {@code input} is the stream being parsed, or null for parallel imports, which report
+     * the bytes they have parsed with each batch instead.
+     */
+    void start(CountingInputStream input) {
+        this.input = input;
+        this.startedAt = Instant.now();
+        this.state = ImportJobState.RUNNING;
+    }
+
+    void progress(ImportBatchDTO batch) {
+        this.lastBatch = batch;
+    }
+
+    void complete(ImportResultDTO result) {
+        this.result = result;
+        this.finishedAt = Instant.now();
+        this.state = ImportJobState.COMPLETED;
+    }
+
+    void fail(String message) {
+        this.failureMessage = message;
+        this.finishedAt = Instant.now();
+        this.state = ImportJobState.FAILED;
+    }
+
+    boolean isFinishedBefore(Instant instant) {
+        Instant finished = finishedAt;
+        return finished != null && finished.isBefore(instant);
+    }
+
+    ImportJobStatusDTO toStatus() {
+        ImportJobState currentState = state;
+        ImportResultDTO currentResult = result;
+        ImportBatchDTO batch = lastBatch;
+        CountingInputStream currentInput = input;
+
+        long rowsParsed = currentResult != null ? currentResult.getRowsParsed() : batch != null ? batch.getRowsParsed() : 0;
+        long rowsInserted = currentResult != null ? currentResult.getRowsInserted() : batch != null ? batch.getRowsInserted() : 0;
+        long rowsRejected = currentResult != null ? currentResult.getRowsRejected() : batch != null ? batch.getRowsRejected() : 0;
+        long bytesProcessed = currentState == ImportJobState.COMPLETED ? fileSize
+                : currentInput != null ? Math.min(currentInput.getCount(), fileSize)
+                : batch != null && batch.getBytesParsed() != null ? Math.min(batch.getBytesParsed(), fileSize) : 0;
+
+        double elapsedSeconds = startedAt == null ? 0
+                : Duration.between(startedAt, finishedAt != null ? finishedAt : Instant.now()).toMillis() / 1000.0;
+        double rowsPerSecond = elapsedSeconds > 0 ? rowsParsed / elapsedSeconds : 0;
+
+        Long etaSeconds = null;
+        if (currentState == ImportJobState.RUNNING && bytesProcessed > 0 && elapsedSeconds > 0) {
+            double bytesPerSecond = bytesProcessed / elapsedSeconds;
+            etaSeconds = Math.round((fileSize - bytesProcessed) / bytesPerSecond);
+        } else if (currentState == ImportJobState.COMPLETED) {
+            etaSeconds = 0L;
+        }
+
+        return ImportJobStatusDTO.builder()
+                .jobId(id)
+                .state(currentState)
+                .parallelism(parallelism)
+                .engine(engine)
+                .fileName(fileName)
+                .fileSizeBytes(fileSize)
+                .contentSha256(contentSha256)
+                .bytesProcessed(bytesProcessed)
+                .rowsParsed(rowsParsed)
+                .rowsInserted(rowsInserted)
+                .rowsRejected(rowsRejected)
+                .rowsPerSecond(rowsPerSecond)
+                .etaSeconds(etaSeconds)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .failureMessage(failureMessage)
+                .errors(currentResult != null ? currentResult.getErrors() : null)
+                .errorsTruncated(currentResult != null && currentResult.isErrorsTruncated())
+                .build();
+    }
+}
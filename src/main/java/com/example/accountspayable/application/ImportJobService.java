@@ -0,0 +1,233 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.ImportJobStatusDTO;
+import com.example.accountspayable.application.dto.ImportResultDTO;
+import com.example.accountspayable.domain.enums.ImportEngine;
+import com.example.accountspayable.infrastructure.config.ThreadFactories;
+import com.example.accountspayable.infrastructure.importer.CountingInputStream;
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs CSV imports as background jobs. Uploads are spooled to a temporary file so the HTTP request can return
+ * straight away, and jobs run on a bounded pool so concurrent uploads cannot exhaust the request threads. The pool
+ * stays bounded with virtual threads too: there it limits how many imports compete for database connections.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportJobService {
+
+    private static final String IMPORT_SCOPE = "accounts.import";
+    private static final String IMPORT_CONTENT_SCOPE = "accounts.import.content";
+    private static final TypeReference<ImportJobStatusDTO> STATUS_TYPE = new TypeReference<>() {
+    };
+
+    private final AccountImportService accountImportService;
+    private final IdempotencyService idempotencyService;
+
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${accounts.import.jobs.max-concurrent:2}")
+    private int maxConcurrent;
+
+    @Value("${accounts.import.jobs.queue-capacity:10}")
+    private int queueCapacity;
+
+    @Value("${accounts.import.parallel.max-parallelism:4}")
+    private int maxParallelism;
+
+    @Value("${accounts.import.jobs.retention:PT1H}")
+    private Duration retention;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private TaskExecutor executor;
+
+    @PostConstruct
+    void start() {
+        ThreadPoolTaskExecutor threadPool = new ThreadPoolTaskExecutor();
+        threadPool.setCorePoolSize(maxConcurrent);
+        threadPool.setMaxPoolSize(maxConcurrent);
+        threadPool.setQueueCapacity(queueCapacity);
+        threadPool.setThreadFactory(ThreadFactories.blocking("account-import-", virtualThreads));
+        threadPool.initialize();
+        this.executor = threadPool;
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            threadPool.shutdown();
+        }
+    }
+
+    /**
+     * Queues an import of the uploaded file with the given write engine. A {@code parallelism} above 1 parses and
+     * writes the file with that many threads each, up to {@code accounts.import.parallel.max-parallelism}.
+     * <p>
+     * The SHA-256 of the upload is taken while it is spooled: a file whose content was already submitted, and did not
+     * fail, is not imported again and the earlier job is returned instead, as it is for a repeated
+     * {@code idempotencyKey}.
+     */
+    public IdempotentResult<ImportJobStatusDTO> submit(MultipartFile file, int parallelism, ImportEngine engine,
+                                                       String idempotencyKey) {
+        if (parallelism < 1 || parallelism > maxParallelism) {
+            throw new RuntimeException("Parallelism must be between 1 and " + maxParallelism);
+        }
+        evictFinishedJobs();
+
+        Path spooled;
+        String contentSha256;
+        try {
+            spooled = Files.createTempFile("accounts-import-", ".csv");
+            contentSha256 = spool(file, spooled);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store CSV file: " + e.getMessage());
+        }
+
+        ImportJob job = new ImportJob(spooled, file.getOriginalFilename(), file.getSize(), contentSha256, idempotencyKey,
+                parallelism, engine);
+        ImportJobStatusDTO submitted;
+        try {
+            submitted = idempotencyService.execute(IMPORT_SCOPE, idempotencyKey, List.of(contentSha256, parallelism, engine),
+                    STATUS_TYPE, () -> idempotencyService.execute(IMPORT_CONTENT_SCOPE, contentSha256, contentSha256,
+                            STATUS_TYPE, job::toStatus).value()).value();
+        } catch (RuntimeException e) {
+            deleteTempFile(spooled);
+            throw e;
+        }
+        if (!submitted.getJobId().equals(job.getId())) {
+            deleteTempFile(spooled);
+            return new IdempotentResult<>(getJob(submitted.getJobId()).orElse(submitted), true);
+        }
+
+        // started only once the keys are committed, so the job's own updates of them cannot be lost
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            deleteTempFile(spooled);
+            idempotencyService.release(IMPORT_CONTENT_SCOPE, contentSha256);
+            if (idempotencyKey != null) {
+                idempotencyService.release(IMPORT_SCOPE, idempotencyKey);
+            }
+            throw new RuntimeException("Too many imports in progress, try again later");
+        }
+        return new IdempotentResult<>(submitted, false);
+    }
+
+    public Optional<ImportJobStatusDTO> getJob(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ImportJob::toStatus);
+    }
+
+    private static String spool(MultipartFile file, Path target) throws IOException {
+        MessageDigest digest = IdempotencyService.sha256Digest();
+        try (InputStream input = new DigestInputStream(file.getInputStream(), digest)) {
+            Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void run(ImportJob job) {
+        if (job.getParallelism() > 1) {
+            runInParallel(job);
+            return;
+        }
+        try (CountingInputStream input = new CountingInputStream(Files.newInputStream(job.getFile()))) {
+            job.start(input);
+            ImportResultDTO result = accountImportService.importAccountsFromCsv(input, job.getEngine(), job::progress);
+            complete(job, result);
+        } catch (IOException e) {
+            fail(job, "Failed to read CSV file: " + e.getMessage());
+        } catch (RuntimeException e) {
+            fail(job, e.getMessage());
+        } finally {
+            deleteTempFile(job.getFile());
+        }
+    }
+
+    private void runInParallel(ImportJob job) {
+        try {
+            job.start(null);
+            ImportResultDTO result = accountImportService.importAccountsFromCsv(
+                    job.getFile(), job.getParallelism(), job.getEngine(), job::progress);
+            complete(job, result);
+        } catch (RuntimeException e) {
+            fail(job, e.getMessage());
+        } finally {
+            deleteTempFile(job.getFile());
+        }
+    }
+
+    /**
+     * Uploading the file again, or repeating the submission with its Idempotency-Key, returns the final state of the
+     * job, also after it is evicted from memory.
+     */
+    private void complete(ImportJob job, ImportResultDTO result) {
+        job.complete(result);
+        try {
+            idempotencyService.update(IMPORT_CONTENT_SCOPE, job.getContentSha256(), job.toStatus());
+            if (job.getIdempotencyKey() != null) {
+                idempotencyService.update(IMPORT_SCOPE, job.getIdempotencyKey(), job.toStatus());
+            }
+        } catch (RuntimeException ignored) {
+            // the submitted state stays stored, the job itself has completed
+        }
+    }
+
+    /**
+     * A failed file may be uploaded again, under the same Idempotency-Key too, so its content hash and the key are
+     * forgotten, as when the job is rejected on submission. Otherwise a retry would replay the QUEUED state of a job
+     * that no longer exists once it is evicted.
+     */
+    private void fail(ImportJob job, String message) {
+        job.fail(message);
+        try {
+            idempotencyService.release(IMPORT_CONTENT_SCOPE, job.getContentSha256());
+            if (job.getIdempotencyKey() != null) {
+                idempotencyService.release(IMPORT_SCOPE, job.getIdempotencyKey());
+            }
+        } catch (RuntimeException ignored) {
+            // the hash and the key expire with accounts.idempotency.ttl
+        }
+    }
+
+    private void evictFinishedJobs() {
+        Instant threshold = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinishedBefore(threshold));
+    }
+
+    private void deleteTempFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // left for the OS to clean up with the rest of the temp directory
+        }
+    }
+}
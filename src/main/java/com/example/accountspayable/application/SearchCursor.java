@@ -0,0 +1,29 @@
+package com.example.accountspayable.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position for search results: the (rank, id) of the last hit returned. The rank travels as the
+ * exact float PostgreSQL returned, so the next page resumes right after it.
+ */
+record SearchCursor(float rank, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new SearchCursor(Float.parseFloat(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+}
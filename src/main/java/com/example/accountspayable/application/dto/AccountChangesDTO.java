@@ -0,0 +1,18 @@
+package com.example.accountspayable.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountChangesDTO {
+    private List<AccountEventDTO> events;
+    private long nextSince;
+    private boolean hasMore;
+}
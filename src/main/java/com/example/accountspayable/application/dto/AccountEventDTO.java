@@ -0,0 +1,21 @@
+package com.example.accountspayable.application.dto;
+
+import com.example.accountspayable.domain.enums.AccountEventType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One change to an account; {@code account} is the row after the change, or as it was before a DELETED or ARCHIVED event.
+ */
+@Data
+@Builder
+public class AccountEventDTO {
+    private long sequence;
+    private UUID accountId;
+    private AccountEventType type;
+    private AccountResponseDTO account;
+    private OffsetDateTime occurredAt;
+}
@@ -0,0 +1,20 @@
+package com.example.accountspayable.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class AccountReportDTO {
+    private LocalDate from;
+    private LocalDate to;
+    private LocalDate asOf;
+    private ReportBucketDTO total;
+    private List<ReportBucketDTO> byStatus;
+    private List<ReportBucketDTO> byMonth;
+    private List<ReportBucketDTO> byMonthAndStatus;
+    private List<ReportBucketDTO> aging;
+}
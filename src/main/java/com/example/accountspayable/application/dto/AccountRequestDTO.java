@@ -15,4 +15,5 @@ public class AccountRequestDTO {
     private BigDecimal value;
     private String description;
     private AccountStatus status;
+    private Long version;
 }
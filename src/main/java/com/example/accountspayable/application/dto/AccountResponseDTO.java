@@ -1,8 +1,11 @@
 package com.example.accountspayable.application.dto;
 
 import com.example.accountspayable.domain.enums.AccountStatus;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -10,11 +13,21 @@ import java.util.UUID;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonFilter(AccountResponseDTO.FIELDS_FILTER)
 public class AccountResponseDTO {
+
+    /**
+     * Filter that the {@code fields} request parameter narrows; without it every field is written.
+     */
+    public static final String FIELDS_FILTER = "accountFields";
+
     private UUID id;
     private LocalDate dueDate;
     private LocalDate paymentDate;
     private BigDecimal value;
     private String description;
     private AccountStatus status;
+    private Long version;
 }
@@ -0,0 +1,17 @@
+package com.example.accountspayable.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAccountUpdateDTO {
+    private UUID id;
+    private AccountRequestDTO account;
+}
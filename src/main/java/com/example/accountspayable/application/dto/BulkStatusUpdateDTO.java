@@ -0,0 +1,18 @@
+package com.example.accountspayable.application.dto;
+
+import com.example.accountspayable.domain.enums.AccountStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateDTO {
+    private UUID id;
+    private AccountStatus status;
+}
@@ -0,0 +1,21 @@
+package com.example.accountspayable.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportBatchDTO {
+    private long batchNumber;
+    private int batchRows;
+    private int batchInserted;
+    private long rowsParsed;
+    private long rowsInserted;
+    private long rowsRejected;
+    private Long bytesParsed;
+    private long elapsedMillis;
+}
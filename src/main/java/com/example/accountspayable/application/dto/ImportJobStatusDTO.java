@@ -0,0 +1,38 @@
+package com.example.accountspayable.application.dto;
+
+import com.example.accountspayable.domain.enums.ImportEngine;
+import com.example.accountspayable.domain.enums.ImportJobState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobStatusDTO {
+    private UUID jobId;
+    private ImportJobState state;
+    private int parallelism;
+    private ImportEngine engine;
+    private String fileName;
+    private long fileSizeBytes;
+    private String contentSha256;
+    private long bytesProcessed;
+    private long rowsParsed;
+    private long rowsInserted;
+    private long rowsRejected;
+    private double rowsPerSecond;
+    private Long etaSeconds;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String failureMessage;
+    private List<ImportErrorDTO> errors;
+    private boolean errorsTruncated;
+}
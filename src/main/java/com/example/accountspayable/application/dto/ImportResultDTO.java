@@ -0,0 +1,22 @@
+package com.example.accountspayable.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDTO {
+    private long rowsParsed;
+    private long rowsInserted;
+    private long rowsRejected;
+    private long batches;
+    private long elapsedMillis;
+    private List<ImportErrorDTO> errors;
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,24 @@
+package com.example.accountspayable.application.dto;
+
+import com.example.accountspayable.domain.enums.AccountStatus;
+import com.example.accountspayable.domain.enums.AgingBucket;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Count and sum of one group of a report; only the dimensions the group is keyed by are set.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReportBucketDTO {
+    private YearMonth month;
+    private AccountStatus status;
+    private AgingBucket aging;
+    private long count;
+    private BigDecimal total;
+}
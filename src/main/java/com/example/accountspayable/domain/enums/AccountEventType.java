@@ -0,0 +1,9 @@
+package com.example.accountspayable.domain.enums;
+
+public enum AccountEventType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED,
+    ARCHIVED
+}
@@ -1,7 +1,30 @@
 package com.example.accountspayable.domain.enums;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum AccountStatus {
     PENDING,
     OVERDUE,
-    PAID
+    PAID;
+
+    /**
+     * Statuses an account may move to this one from: an open account is paid or falls overdue, an overdue one is
+     * renegotiated back to pending and a payment is reversed to pending. Status changes and full updates, single or
+     * in bulk, are all held to these rules, whether or not the request carries a version.
+     */
+    public Set<AccountStatus> allowedSources() {
+        return switch (this) {
+            case PENDING -> EnumSet.of(OVERDUE, PAID);
+            case OVERDUE -> EnumSet.of(PENDING);
+            case PAID -> EnumSet.of(PENDING, OVERDUE);
+        };
+    }
+
+    /**
+     * Whether an account in this status may be written with {@code target}, keeping the status being allowed too.
+     */
+    public boolean canMoveTo(AccountStatus target) {
+        return this == target || target.allowedSources().contains(this);
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.accountspayable.domain.enums;
+
+/**
+ * How far past its due date an open (PENDING or OVERDUE) account is, in days.
+ */
+public enum AgingBucket {
+    NOT_DUE,
+    DAYS_1_30,
+    DAYS_31_60,
+    DAYS_61_90,
+    OVER_90
+}
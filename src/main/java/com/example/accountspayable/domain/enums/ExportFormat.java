@@ -0,0 +1,6 @@
+package com.example.accountspayable.domain.enums;
+
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,6 @@
+package com.example.accountspayable.domain.enums;
+
+public enum ImportEngine {
+    BATCH,
+    COPY
+}
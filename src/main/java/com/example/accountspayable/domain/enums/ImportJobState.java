@@ -0,0 +1,8 @@
+package com.example.accountspayable.domain.enums;
+
+public enum ImportJobState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -1,22 +1,23 @@
 package com.example.accountspayable.domain.repository;
 
 import com.example.accountspayable.domain.entity.AccountEntity;
-import com.example.accountspayable.domain.enums.AccountStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface AccountRepository extends JpaRepository<AccountEntity, UUID> {
+public interface AccountRepository extends JpaRepository<AccountEntity, UUID>, JpaSpecificationExecutor<AccountEntity> {
 
     Page<AccountEntity> findByDueDateAndDescription(LocalDate dueDate, String description, Pageable pageable);
 
@@ -24,8 +25,31 @@ public interface AccountRepository extends JpaRepository<AccountEntity, UUID> {
 
     Page<AccountEntity> findByDescriptionContaining(String description, Pageable pageable);
 
-    List<AccountEntity> findByStatus(AccountStatus status);
-
-    @Query("SELECT SUM(a.value) FROM AccountEntity a WHERE a.paymentDate BETWEEN :startDate AND :endDate AND a.status = 'PAID'")
+    /**
+     * Moves up to {@code limit} pending accounts due before {@code today} to OVERDUE in one statement.
+     * Rows locked by a concurrent run are skipped, so several nodes can share the work without touching a row twice.
+     * The outer update matches on the full (id, due_date) key so each row is found in its own partition only.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE accounts SET status = 'OVERDUE', version = version + 1 WHERE (id, due_date) IN ("
+            + "SELECT id, due_date FROM accounts WHERE status = 'PENDING' AND due_date < :today LIMIT :limit FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true)
+    int markOverdue(@Param("today") LocalDate today, @Param("limit") int limit);
+
+    /**
+     * Deletes the account in one statement; returns 0 when it does not exist.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AccountEntity a WHERE a.id = :id")
+    int deleteAccountById(@Param("id") UUID id);
+
+    /**
+     * Sums the daily PAID buckets kept in {@code paid_daily_totals} by triggers on {@code accounts}, so a year-long
+     * range reads at most a few hundred rows.
+     */
+    @Query(value = "SELECT SUM(total_value) FROM paid_daily_totals WHERE payment_date BETWEEN :startDate AND :endDate",
+            nativeQuery = true)
     Optional<BigDecimal> findTotalPaidBetweenDates(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
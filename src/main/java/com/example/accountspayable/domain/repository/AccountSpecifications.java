@@ -0,0 +1,45 @@
+package com.example.accountspayable.domain.repository;
+
+import com.example.accountspayable.domain.entity.AccountEntity;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public final class AccountSpecifications {
+
+    private AccountSpecifications() {
+    }
+
+    /**
+     * Same filter semantics as the paged listing: an exact description when a due date is also given,
+     * otherwise a substring match on the description. {@code %}, {@code _} and {@code \} in the description match
+     * themselves, as in {@code findByDescriptionContaining}.
+     */
+    public static Specification<AccountEntity> matching(LocalDate dueDate, String description) {
+        if (dueDate != null && description != null) {
+            return (root, query, cb) -> cb.and(
+                    cb.equal(root.get("dueDate"), dueDate),
+                    cb.equal(root.get("description"), description));
+        } else if (dueDate != null) {
+            return (root, query, cb) -> cb.equal(root.get("dueDate"), dueDate);
+        } else if (description != null) {
+            String pattern = "%" + EscapeCharacter.DEFAULT.escape(description) + "%";
+            return (root, query, cb) -> cb.like(root.get("description"), pattern, EscapeCharacter.DEFAULT.getEscapeCharacter());
+        }
+        return Specification.where(null);
+    }
+
+    /**
+     * Rows strictly after the given (dueDate, id) position in {@code ORDER BY due_date, id}. The leading
+     * {@code due_date >=} term is redundant but lets PostgreSQL seek the (due_date, id) index to the position.
+     */
+    public static Specification<AccountEntity> after(LocalDate dueDate, UUID id) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("dueDate"), dueDate),
+                cb.or(
+                        cb.greaterThan(root.get("dueDate"), dueDate),
+                        cb.greaterThan(root.get("id"), id)));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.accountspayable.infrastructure.config;
+
+import com.example.accountspayable.infrastructure.persistence.AccountPartitionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Keeps the monthly partitions of {@code accounts} ahead of the calendar, gives rows that fell into the default
+ * partition a partition of their own and, when {@code archive-after-months} is set, archives the oldest months.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountPartitionScheduler {
+
+    private final AccountPartitionRepository accountPartitionRepository;
+    private final MeterRegistry meterRegistry;
+    private final CacheManager cacheManager;
+
+    @Value("${accounts.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${accounts.partitions.archive-after-months:0}")
+    private int archiveAfterMonths;
+
+    @Scheduled(cron = "${accounts.partitions.cron:0 30 0 * * ?}")
+    public void maintainPartitions() {
+        LocalDate today = LocalDate.now();
+        int created = accountPartitionRepository.createPartitions(today, today.plusMonths(monthsAhead))
+                + accountPartitionRepository.splitDefaultPartition();
+        meterRegistry.counter("accounts.partitions.created").increment(created);
+
+        if (archiveAfterMonths > 0) {
+            int archived = accountPartitionRepository.archivePartitionsBefore(today.minusMonths(archiveAfterMonths));
+            meterRegistry.counter("accounts.partitions.archived").increment(archived);
+            if (archived > 0) {
+                clear(CacheConfig.ACCOUNTS_CACHE);
+                clear(CacheConfig.TOTAL_PAID_CACHE);
+            }
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
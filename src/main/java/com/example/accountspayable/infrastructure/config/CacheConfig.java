@@ -0,0 +1,60 @@
+package com.example.accountspayable.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Caches are Caffeine-backed and sized through {@code spring.cache.caffeine.spec}; hit and miss counts are
+ * published as the {@code cache.gets} metric.
+ * <p>
+ * Reports are not evicted on writes, since every import would empty the cache, so they get a cache of their own whose
+ * short time to live bounds how stale a report can be. A maximum size of 0 turns it off.
+ * <p>
+ * The cache manager is transaction-aware: puts, evictions and clears issued inside a transaction, by
+ * {@code @CacheEvict} or by hand, wait for the commit. Otherwise a read between the eviction and the commit would cache
+ * the old row again until it expires.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ACCOUNTS_CACHE = "accounts";
+    public static final String TOTAL_PAID_CACHE = "totalPaid";
+    public static final String REPORT_CACHE = "accountReports";
+
+    @Value("${accounts.report.cache.maximum-size:100}")
+    private long reportCacheSize;
+
+    @Value("${accounts.report.cache.ttl:PT1M}")
+    private Duration reportCacheTtl;
+
+    @Bean
+    public static BeanPostProcessor transactionAwareCacheManager() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof CaffeineCacheManager cacheManager
+                        ? new TransactionAwareCacheManagerProxy(cacheManager)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> reportCacheCustomizer() {
+        return cacheManager -> cacheManager.registerCustomCache(REPORT_CACHE, Caffeine.newBuilder()
+                .maximumSize(reportCacheSize)
+                .expireAfterWrite(reportCacheTtl)
+                .recordStats()
+                .build());
+    }
+}
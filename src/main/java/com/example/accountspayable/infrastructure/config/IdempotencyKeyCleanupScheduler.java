@@ -0,0 +1,23 @@
+package com.example.accountspayable.infrastructure.config;
+
+import com.example.accountspayable.infrastructure.persistence.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes expired idempotency keys. Expired keys are already ignored when claimed, so this only keeps the table small.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyCleanupScheduler {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(cron = "${accounts.idempotency.cleanup-cron:0 45 * * * ?}")
+    public void deleteExpiredKeys() {
+        meterRegistry.counter("accounts.idempotency.deleted").increment(idempotencyKeyRepository.deleteExpired());
+    }
+}
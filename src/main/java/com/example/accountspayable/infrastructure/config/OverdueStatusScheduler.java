@@ -1,31 +1,47 @@
 package com.example.accountspayable.infrastructure.config;
 
-import com.example.accountspayable.domain.entity.AccountEntity;
-import com.example.accountspayable.domain.enums.AccountStatus;
 import com.example.accountspayable.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class OverdueStatusScheduler {
 
     private final AccountRepository accountRepository;
+    private final MeterRegistry meterRegistry;
+    private final CacheManager cacheManager;
 
-    @Scheduled(cron = "0 0 0 * * ?")
-    public void updateOverdueAccounts() {
-        List<AccountEntity> dueAccounts = accountRepository.findByStatus(AccountStatus.PENDING);
+    @Value("${accounts.overdue.chunk-size:5000}")
+    private int chunkSize;
 
+    @Scheduled(cron = "${accounts.overdue.cron:0 0 0 * * ?}")
+    public void updateOverdueAccounts() {
         LocalDate today = LocalDate.now();
-        for (AccountEntity account : dueAccounts) {
-            if (account.getDueDate().isBefore(today)) {
-                account.setStatus(AccountStatus.OVERDUE);
-                accountRepository.save(account);
-            }
+        long transitioned = meterRegistry.timer("accounts.overdue.duration")
+                .record(() -> markOverdueInChunks(today));
+        meterRegistry.counter("accounts.overdue.transitioned").increment(transitioned);
+
+        Cache accounts = cacheManager.getCache(CacheConfig.ACCOUNTS_CACHE);
+        if (transitioned > 0 && accounts != null) {
+            accounts.clear();
         }
     }
+
+    private long markOverdueInChunks(LocalDate today) {
+        long transitioned = 0;
+        int updated;
+        do {
+            updated = accountRepository.markOverdue(today, chunkSize);
+            transitioned += updated;
+        } while (updated == chunkSize);
+        return transitioned;
+    }
 }
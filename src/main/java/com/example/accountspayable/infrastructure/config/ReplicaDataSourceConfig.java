@@ -0,0 +1,84 @@
+package com.example.accountspayable.infrastructure.config;
+
+import com.example.accountspayable.infrastructure.persistence.ReadYourWritesTracker;
+import com.example.accountspayable.infrastructure.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Only active when {@code accounts.datasource.replica.url} is set; otherwise Spring Boot builds the single
+ * {@code spring.datasource} pool as before. Read-only transactions ({@code @Transactional(readOnly = true)} in
+ * {@code AccountService} and the Spring Data read methods) then run on the replica pool, everything else and
+ * Flyway on the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "accounts.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    @Value("${accounts.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${accounts.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${accounts.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${accounts.datasource.replica.retry-interval:PT30S}")
+    private Duration retryInterval;
+
+    @Value("${accounts.datasource.replica.read-your-writes-window:PT5S}")
+    private Duration readYourWritesWindow;
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("accounts.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    /**
+     * Also registered as a servlet filter, which hands out the read-your-writes cookie.
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(readYourWritesWindow);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReadYourWritesTracker readYourWrites) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, readYourWrites, retryInterval));
+    }
+}
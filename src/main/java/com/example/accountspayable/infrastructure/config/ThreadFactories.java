@@ -0,0 +1,23 @@
+package com.example.accountspayable.infrastructure.config;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Thread factories for the pools the application creates itself. With {@code spring.threads.virtual.enabled}
+ * (Java 21, see the {@code virtual-threads} profile) threads that mostly wait on JDBC are virtual, like the request
+ * and scheduler threads Spring Boot then provides; on older runtimes asking for them fails at startup.
+ */
+public final class ThreadFactories {
+
+    private ThreadFactories() {
+    }
+
+    public static ThreadFactory blocking(String threadNamePrefix, boolean virtualThreads) {
+        return virtualThreads
+                ? new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory()
+                : new CustomizableThreadFactory(threadNamePrefix);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.accountspayable.infrastructure.events;
+
+import com.example.accountspayable.application.dto.AccountEventDTO;
+import com.example.accountspayable.infrastructure.persistence.AccountEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Moves outbox events along in two steps, each in its own transaction under the relay lock, so only one node
+ * works at a time: numbering committed events, which makes them visible to {@code GET /api/accounts/changes}, then
+ * handing numbered events to the configured {@link AccountEventSink}. A failing sink stops publishing but not
+ * numbering, so the changes endpoint keeps up either way.
+ */
+@Slf4j
+@Component
+public class AccountEventRelay {
+
+    private final AccountEventRepository accountEventRepository;
+    private final AccountEventSink sink;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${accounts.events.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${accounts.events.retention:P7D}")
+    private Duration retention;
+
+    public AccountEventRelay(AccountEventRepository accountEventRepository, ObjectProvider<AccountEventSink> sink,
+                             MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
+        this.accountEventRepository = accountEventRepository;
+        this.sink = sink.getIfAvailable();
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${accounts.events.relay-interval:PT1S}")
+    public void relay() {
+        int sequenced;
+        do {
+            sequenced = inRelayTransaction(() -> accountEventRepository.assignSequences(batchSize));
+            meterRegistry.counter("accounts.events.sequenced").increment(sequenced);
+        } while (sequenced == batchSize);
+
+        if (sink == null) {
+            return;
+        }
+        int published;
+        do {
+            try {
+                published = inRelayTransaction(this::publishBatch);
+            } catch (RuntimeException e) {
+                meterRegistry.counter("accounts.events.publish.failures").increment();
+                log.warn("Publishing account events failed, retrying on the next run", e);
+                return;
+            }
+            meterRegistry.counter("accounts.events.published").increment(published);
+        } while (published == batchSize);
+    }
+
+    /**
+     * Drops numbered events older than {@code accounts.events.retention}; with a sink configured only the ones it
+     * has accepted.
+     */
+    @Scheduled(cron = "${accounts.events.cleanup-cron:0 15 * * * ?}")
+    public void deleteExpired() {
+        int deleted = accountEventRepository.deleteBefore(Instant.now().minus(retention), sink != null);
+        meterRegistry.counter("accounts.events.deleted").increment(deleted);
+    }
+
+    private int publishBatch() {
+        List<AccountEventDTO> events = accountEventRepository.findUnpublished(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        try {
+            sink.publish(events);
+        } catch (Exception e) {
+            throw new RuntimeException("Sink rejected events " + events.get(0).getSequence() + " to "
+                    + events.get(events.size() - 1).getSequence(), e);
+        }
+        accountEventRepository.markPublished(events.get(0).getSequence(), events.get(events.size() - 1).getSequence());
+        return events.size();
+    }
+
+    private int inRelayTransaction(IntSupplier step) {
+        Integer count = transactionTemplate.execute(status -> accountEventRepository.tryLockRelay() ? step.getAsInt() : 0);
+        return count != null ? count : 0;
+    }
+}
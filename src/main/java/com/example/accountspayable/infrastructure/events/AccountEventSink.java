@@ -0,0 +1,15 @@
+package com.example.accountspayable.infrastructure.events;
+
+import com.example.accountspayable.application.dto.AccountEventDTO;
+
+import java.util.List;
+
+/**
+ * Destination of the events relayed from the outbox, chosen with {@code accounts.events.sink}. Batches arrive in
+ * sequence order and are marked published only when {@link #publish} returns, so delivery is at least once:
+ * a batch interrupted by a failure is sent again and consumers should skip sequences they already have.
+ */
+public interface AccountEventSink {
+
+    void publish(List<AccountEventDTO> events) throws Exception;
+}
@@ -0,0 +1,44 @@
+package com.example.accountspayable.infrastructure.events;
+
+import com.example.accountspayable.application.dto.AccountEventDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each event as one JSON line to {@code accounts.events.file.path}, for local runs and tests.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "accounts.events.sink", havingValue = "file")
+public class FileAccountEventSink implements AccountEventSink {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${accounts.events.file.path:account-events.ndjson}")
+    private Path path;
+
+    @Override
+    public synchronized void publish(List<AccountEventDTO> events) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (AccountEventDTO event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.write('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.accountspayable.infrastructure.events;
+
+import com.example.accountspayable.application.dto.AccountEventDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the last {@code accounts.events.memory.capacity} events in the process, for tests and local runs.
+ */
+@Component
+@ConditionalOnProperty(name = "accounts.events.sink", havingValue = "memory")
+public class InMemoryAccountEventSink implements AccountEventSink {
+
+    private final Deque<AccountEventDTO> events = new ArrayDeque<>();
+
+    @Value("${accounts.events.memory.capacity:10000}")
+    private int capacity;
+
+    @Override
+    public synchronized void publish(List<AccountEventDTO> batch) {
+        for (AccountEventDTO event : batch) {
+            if (events.size() == capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    public synchronized List<AccountEventDTO> events() {
+        return new ArrayList<>(events);
+    }
+}
@@ -0,0 +1,422 @@
+package com.example.accountspayable.infrastructure.importer;
+
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.domain.enums.AccountStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RFC 4180 parser for the account CSV layout that works on the raw UTF-8 bytes. Records are located in a reusable
+ * buffer and their fields are decoded in place: dates, amounts and statuses never become intermediate strings, and
+ * only the description is turned into a String.
+ *
+ * <p>Quoted fields may contain commas, doubled quotes and line breaks. Rows are reported with the number of the
+ * physical line they start on, the header being line 1. Instances are single-use and not thread-safe.
+ */
+final class AccountCsvParser {
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final int COLUMNS = 5;
+    private static final int MAX_COMPACT_DIGITS = 18;
+
+    private static final byte QUOTE = '"';
+    private static final byte COMMA = ',';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private static final AccountStatus[] STATUSES = AccountStatus.values();
+    private static final byte[][] STATUS_NAMES = Arrays.stream(STATUSES)
+            .map(status -> status.name().getBytes(StandardCharsets.US_ASCII))
+            .toArray(byte[][]::new);
+
+    private final InputStream inputStream;
+
+    private byte[] buffer;
+    private long bufferOffset;
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+
+    private final int[] fieldStart = new int[COLUMNS];
+    private final int[] fieldEnd = new int[COLUMNS];
+    private final boolean[] fieldEscaped = new boolean[COLUMNS];
+    private int fieldCount;
+    private int recordEnd;
+    private int recordLines;
+    private String recordError;
+
+    private byte[] scratch = new byte[256];
+
+    AccountCsvParser(InputStream inputStream) {
+        this(inputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    AccountCsvParser(InputStream inputStream, int bufferSize) {
+        this.inputStream = inputStream;
+        this.buffer = new byte[bufferSize];
+    }
+
+    void parse(CsvRowHandler handler) throws IOException {
+        skipByteOrderMark();
+        parseRecords(handler, 1, true);
+    }
+
+    /**
+     * Parses a chunk produced by {@link #split}: the input starts on a record boundary, has no header, and its first
+     * record is on {@code firstLineNumber}.
+     */
+    void parse(CsvRowHandler handler, long firstLineNumber) throws IOException {
+        parseRecords(handler, firstLineNumber, false);
+    }
+
+    /**
+     * Walks the records without decoding their fields and cuts the data rows into chunks of roughly
+     * {@code chunkBytes}. Chunks start on record boundaries as seen by this parser, so a quoted line break never
+     * splits a row, and each chunk can be parsed on its own.
+     */
+    List<CsvChunk> split(long chunkBytes) throws IOException {
+        skipByteOrderMark();
+        List<CsvChunk> chunks = new ArrayList<>();
+        long lineNumber = 1;
+        long chunkStart = -1;
+        long chunkLine = 0;
+        boolean header = true;
+
+        while (nextRecord()) {
+            long recordStart = bufferOffset + position;
+            if (header) {
+                header = false;
+            } else if (chunkStart < 0) {
+                chunkStart = recordStart;
+                chunkLine = lineNumber;
+            } else if (recordStart - chunkStart >= chunkBytes) {
+                chunks.add(new CsvChunk(chunkStart, recordStart - chunkStart, chunkLine));
+                chunkStart = recordStart;
+                chunkLine = lineNumber;
+            }
+            lineNumber += recordLines;
+        }
+        if (chunkStart >= 0) {
+            chunks.add(new CsvChunk(chunkStart, bufferOffset + limit - chunkStart, chunkLine));
+        }
+        return chunks;
+    }
+
+    private void parseRecords(CsvRowHandler handler, long firstLineNumber, boolean header) throws IOException {
+        long lineNumber = firstLineNumber;
+
+        while (nextRecord()) {
+            long recordLine = lineNumber;
+            lineNumber += recordLines;
+            if (header) {
+                header = false;
+                continue;
+            }
+            if (isBlankRecord()) {
+                continue;
+            }
+
+            AccountRequestDTO account;
+            try {
+                account = toAccount();
+            } catch (RuntimeException e) {
+                handler.onError(recordLine, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+                continue;
+            }
+            handler.onRow(recordLine, account);
+        }
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        while (limit < 3 && !endOfInput) {
+            fill();
+        }
+        if (limit >= 3 && buffer[0] == (byte) 0xEF && buffer[1] == (byte) 0xBB && buffer[2] == (byte) 0xBF) {
+            recordEnd = 3;
+        }
+    }
+
+    /**
+     * Positions the field offsets on the next record, reading more input when the record is not complete in the
+     * buffer. A record that does not fit is never split: the buffer is compacted or grown and the scan restarts.
+     */
+    private boolean nextRecord() throws IOException {
+        position = recordEnd;
+        while (true) {
+            if (position >= limit && endOfInput) {
+                return false;
+            }
+            int end = scanRecord(position);
+            if (end >= 0) {
+                recordEnd = end;
+                return true;
+            }
+            fill();
+        }
+    }
+
+    private void fill() throws IOException {
+        if (limit == buffer.length) {
+            if (position > 0) {
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                bufferOffset += position;
+                limit -= position;
+                recordEnd -= position;
+                position = 0;
+            } else {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        int read = inputStream.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            endOfInput = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    /**
+     * Scans one record starting at {@code start} and returns the offset just past its line terminator, or -1 when
+     * more input is needed to tell where it ends.
+     */
+    private int scanRecord(int start) {
+        fieldCount = 0;
+        recordLines = 0;
+        recordError = null;
+        int i = start;
+
+        while (true) {
+            if (i < limit && buffer[i] == QUOTE) {
+                int contentStart = i + 1;
+                boolean escaped = false;
+                int j = contentStart;
+                while (true) {
+                    if (j >= limit) {
+                        if (!endOfInput) {
+                            return -1;
+                        }
+                        recordError = "Unterminated quoted field";
+                        addField(contentStart, limit, escaped);
+                        return limit;
+                    }
+                    byte b = buffer[j];
+                    if (b == QUOTE) {
+                        if (j + 1 >= limit && !endOfInput) {
+                            return -1;
+                        }
+                        if (j + 1 < limit && buffer[j + 1] == QUOTE) {
+                            escaped = true;
+                            j += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    if (b == LF) {
+                        recordLines++;
+                    }
+                    j++;
+                }
+                addField(contentStart, j, escaped);
+                i = j + 1;
+                while (i < limit && buffer[i] != COMMA && buffer[i] != LF && buffer[i] != CR) {
+                    if (buffer[i] != ' ' && buffer[i] != '\t' && recordError == null) {
+                        recordError = "Unexpected character after quoted field";
+                    }
+                    i++;
+                }
+            } else {
+                int j = i;
+                while (j < limit && buffer[j] != COMMA && buffer[j] != LF && buffer[j] != CR) {
+                    j++;
+                }
+                addField(i, j, false);
+                i = j;
+            }
+
+            if (i >= limit) {
+                return endOfInput ? i : -1;
+            }
+            byte delimiter = buffer[i];
+            if (delimiter == COMMA) {
+                i++;
+            } else if (delimiter == LF) {
+                recordLines++;
+                return i + 1;
+            } else if (delimiter == CR) {
+                if (i + 1 >= limit && !endOfInput) {
+                    return -1;
+                }
+                recordLines++;
+                return i + 1 < limit && buffer[i + 1] == LF ? i + 2 : i + 1;
+            }
+        }
+    }
+
+    private void addField(int start, int end, boolean escaped) {
+        if (fieldCount < COLUMNS) {
+            fieldStart[fieldCount] = start;
+            fieldEnd[fieldCount] = end;
+            fieldEscaped[fieldCount] = escaped;
+        }
+        fieldCount++;
+    }
+
+    private boolean isBlankRecord() {
+        return fieldCount == 1 && trimStart(0) == trimEnd(0);
+    }
+
+    private AccountRequestDTO toAccount() {
+        if (recordError != null) {
+            throw new IllegalArgumentException(recordError);
+        }
+        if (fieldCount < COLUMNS) {
+            throw new IllegalArgumentException("Expected " + COLUMNS + " columns but found " + fieldCount);
+        }
+
+        String description = text(3).trim();
+        if (description.isEmpty()) {
+            throw new IllegalArgumentException("Description is required");
+        }
+
+        return AccountRequestDTO.builder()
+                .dueDate(parseDate(0))
+                .paymentDate(trimStart(1) == trimEnd(1) ? null : parseDate(1))
+                .value(parseDecimal(2))
+                .description(description)
+                .status(parseStatus(4))
+                .build();
+    }
+
+    private LocalDate parseDate(int field) {
+        int start = trimStart(field);
+        int end = trimEnd(field);
+        if (end - start != 10 || buffer[start + 4] != '-' || buffer[start + 7] != '-') {
+            throw new IllegalArgumentException("Invalid date '" + text(field).trim() + "'");
+        }
+        int year = digits(field, start, 4);
+        int month = digits(field, start + 5, 2);
+        int day = digits(field, start + 8, 2);
+        return LocalDate.of(year, month, day);
+    }
+
+    private int digits(int field, int start, int length) {
+        int value = 0;
+        for (int i = start; i < start + length; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Invalid date '" + text(field).trim() + "'");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Reads plain decimals such as {@code -1234.50} into a compact BigDecimal whose scale is the number of fraction
+     * digits given. Anything longer or in another notation is handed to {@link BigDecimal#BigDecimal(String)}.
+     */
+    private BigDecimal parseDecimal(int field) {
+        int start = trimStart(field);
+        int end = trimEnd(field);
+        if (start == end) {
+            throw new IllegalArgumentException("Value is required");
+        }
+
+        int i = start;
+        boolean negative = buffer[i] == '-';
+        if (negative || buffer[i] == '+') {
+            i++;
+        }
+        long unscaled = 0;
+        int digitCount = 0;
+        int scale = -1;
+        for (; i < end; i++) {
+            byte b = buffer[i];
+            if (b >= '0' && b <= '9') {
+                if (++digitCount > MAX_COMPACT_DIGITS) {
+                    return new BigDecimal(text(field).trim());
+                }
+                unscaled = unscaled * 10 + (b - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (b == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return new BigDecimal(text(field).trim());
+            }
+        }
+        if (digitCount == 0) {
+            return new BigDecimal(text(field).trim());
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    private AccountStatus parseStatus(int field) {
+        int start = trimStart(field);
+        int length = trimEnd(field) - start;
+        for (int s = 0; s < STATUSES.length; s++) {
+            byte[] name = STATUS_NAMES[s];
+            if (name.length == length && equalsIgnoreCase(name, start)) {
+                return STATUSES[s];
+            }
+        }
+        throw new IllegalArgumentException("Unknown status '" + text(field).trim() + "'");
+    }
+
+    private boolean equalsIgnoreCase(byte[] upperCaseName, int start) {
+        for (int i = 0; i < upperCaseName.length; i++) {
+            byte b = buffer[start + i];
+            if (b >= 'a' && b <= 'z') {
+                b -= 'a' - 'A';
+            }
+            if (b != upperCaseName[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int trimStart(int field) {
+        int i = fieldStart[field];
+        while (i < fieldEnd[field] && (buffer[i] == ' ' || buffer[i] == '\t')) {
+            i++;
+        }
+        return i;
+    }
+
+    private int trimEnd(int field) {
+        int i = fieldEnd[field];
+        while (i > fieldStart[field] && (buffer[i - 1] == ' ' || buffer[i - 1] == '\t')) {
+            i--;
+        }
+        return i;
+    }
+
+    private String text(int field) {
+        int start = fieldStart[field];
+        int end = fieldEnd[field];
+        if (!fieldEscaped[field]) {
+            return new String(buffer, start, end - start, StandardCharsets.UTF_8);
+        }
+        if (scratch.length < end - start) {
+            scratch = new byte[end - start];
+        }
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            scratch[length++] = buffer[i];
+            if (buffer[i] == QUOTE) {
+                i++;
+            }
+        }
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -1,45 +1,88 @@
 package com.example.accountspayable.infrastructure.importer;
 
-import com.example.accountspayable.application.dto.AccountRequestDTO;
-import com.example.accountspayable.domain.enums.AccountStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.util.ArrayList;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 @Component
 public class CsvAccountImporter {
 
-    public List<AccountRequestDTO> importFromCsv(MultipartFile file) {
-        List<AccountRequestDTO> accounts = new ArrayList<>();
+    /**
+     * Streams the UTF-8 CSV rows to the handler as they are read, so the file is never held in memory.
+     * A malformed row is reported through {@link CsvRowHandler#onError} and parsing continues.
+     */
+    public void importFromCsv(InputStream inputStream, CsvRowHandler handler) {
+        try (InputStream input = inputStream) {
+            new AccountCsvParser(input).parse(handler);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse CSV file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Cuts the data rows of a CSV file into chunks of about {@code chunkBytes} that start on record boundaries,
+     * for {@link #importChunk} to parse independently.
+     */
+    public List<CsvChunk> split(Path file, long chunkBytes) {
+        try (InputStream input = Files.newInputStream(file)) {
+            return new AccountCsvParser(input).split(chunkBytes);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse CSV file: " + e.getMessage());
+        }
+    }
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream()))) {
-            String line;
+    /**
+     * Same as {@link #importFromCsv} for one chunk of the file, reading only its byte range.
+     */
+    public void importChunk(Path file, CsvChunk chunk, CsvRowHandler handler) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position(chunk.offset());
+            InputStream input = new BoundedInputStream(Channels.newInputStream(channel), chunk.length());
+            new AccountCsvParser(input).parse(handler, chunk.firstLine());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse CSV file: " + e.getMessage());
+        }
+    }
 
-            reader.readLine();
+    private static class BoundedInputStream extends FilterInputStream {
 
-            while ((line = reader.readLine()) != null) {
-                String[] values = line.split(",");
+        private long remaining;
 
-                AccountRequestDTO account = AccountRequestDTO.builder()
-                        .dueDate(LocalDate.parse(values[0].trim()))
-                        .paymentDate(values[1].trim().isEmpty() ? null : LocalDate.parse(values[1].trim()))
-                        .value(new BigDecimal(values[2].trim()))
-                        .description(values[3].trim())
-                        .status(AccountStatus.valueOf(values[4].trim().toUpperCase()))
-                        .build();
+        BoundedInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
 
-                accounts.add(account);
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse CSV file: " + e.getMessage());
+            int b = super.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
         }
 
-        return accounts;
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
     }
 }
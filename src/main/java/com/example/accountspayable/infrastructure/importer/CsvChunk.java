@@ -0,0 +1,8 @@
+package com.example.accountspayable.infrastructure.importer;
+
+/**
+ * A run of whole CSV records inside a file: {@code length} bytes from {@code offset}, the first record starting on
+ * line {@code firstLine}.
+ */
+public record CsvChunk(long offset, long length, long firstLine) {
+}
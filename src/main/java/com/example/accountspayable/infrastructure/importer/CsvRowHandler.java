@@ -0,0 +1,10 @@
+package com.example.accountspayable.infrastructure.importer;
+
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+
+public interface CsvRowHandler {
+
+    void onRow(long lineNumber, AccountRequestDTO account);
+
+    void onError(long lineNumber, String message);
+}
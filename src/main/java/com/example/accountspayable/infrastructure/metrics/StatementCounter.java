@@ -0,0 +1,33 @@
+package com.example.accountspayable.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()} and {@link #stop()}.
+ * Registered as Hibernate's statement inspector; statements issued through JdbcTemplate are not seen.
+ */
+@Component
+public class StatementCounter implements StatementInspector {
+
+    private final ThreadLocal<long[]> count = new ThreadLocal<>();
+
+    public void start() {
+        count.set(new long[1]);
+    }
+
+    public long stop() {
+        long[] current = count.get();
+        count.remove();
+        return current != null ? current[0] : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] current = count.get();
+        if (current != null) {
+            current[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import com.example.accountspayable.application.dto.AccountEventDTO;
+import com.example.accountspayable.application.dto.AccountResponseDTO;
+import com.example.accountspayable.domain.enums.AccountEventType;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Access to the {@code account_events} outbox that the triggers of {@code V9__create_account_events_outbox.sql}
+ * fill. Sequencing and publishing must each run in a transaction that holds {@link #tryLockRelay()}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountEventRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT sequence, account_id, event_type, created_at, payload->>'id' AS id, payload->>'dueDate' AS due_date,"
+                    + " payload->>'paymentDate' AS payment_date, payload->>'value' AS value,"
+                    + " payload->>'description' AS description, payload->>'status' AS status,"
+                    + " (payload->>'version')::bigint AS version"
+                    + " FROM account_events";
+
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('account_events_relay'))";
+
+    // the inner ORDER BY ... LIMIT is evaluated before nextval, so sequences follow id order
+    private static final String ASSIGN_SEQUENCES_SQL =
+            "UPDATE account_events e SET sequence = numbered.sequence"
+                    + " FROM (SELECT id, nextval('account_event_sequence') AS sequence"
+                    + " FROM (SELECT id FROM account_events WHERE sequence IS NULL ORDER BY id LIMIT ?) pending) numbered"
+                    + " WHERE e.id = numbered.id";
+
+    private static final String FIND_UNPUBLISHED_SQL =
+            SELECT_SQL + " WHERE sequence IS NOT NULL AND published_at IS NULL ORDER BY sequence LIMIT ?";
+
+    private static final String MARK_PUBLISHED_SQL =
+            "UPDATE account_events SET published_at = now() WHERE sequence >= ? AND sequence <= ? AND published_at IS NULL";
+
+    private static final String FIND_SINCE_SQL = SELECT_SQL + " WHERE sequence > ? ORDER BY sequence LIMIT ?";
+
+    // records the highest deleted sequence in the same statement, so the watermark never lags behind the delete
+    private static final String DELETE_BEFORE_SQL =
+            "WITH deleted AS (DELETE FROM account_events WHERE sequence IS NOT NULL AND created_at < ?%s RETURNING sequence)"
+                    + " UPDATE account_events_pruned SET through_sequence ="
+                    + " GREATEST(through_sequence, (SELECT max(sequence) FROM deleted))"
+                    + " RETURNING (SELECT count(*) FROM deleted)";
+
+    private static final String FIND_PRUNED_THROUGH_SQL = "SELECT through_sequence FROM account_events_pruned";
+
+    private static final RowMapper<AccountEventDTO> EVENT_ROW_MAPPER = (rs, rowNum) -> AccountEventDTO.builder()
+            .sequence(rs.getLong("sequence"))
+            .accountId(rs.getObject("account_id", UUID.class))
+            .type(AccountEventType.valueOf(rs.getString("event_type")))
+            .occurredAt(rs.getObject("created_at", OffsetDateTime.class))
+            .account(AccountResponseDTO.builder()
+                    .id(UUID.fromString(rs.getString("id")))
+                    .dueDate(LocalDate.parse(rs.getString("due_date")))
+                    .paymentDate(rs.getString("payment_date") != null ? LocalDate.parse(rs.getString("payment_date")) : null)
+                    .value(new BigDecimal(rs.getString("value")))
+                    .description(rs.getString("description"))
+                    .status(AccountStatus.valueOf(rs.getString("status")))
+                    .version(rs.getLong("version"))
+                    .build())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Takes the relay lock for the current transaction; false when another node holds it.
+     */
+    public boolean tryLockRelay() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_LOCK_SQL, Boolean.class));
+    }
+
+    /**
+     * Numbers up to {@code limit} committed events that have no sequence yet, oldest first.
+     */
+    public int assignSequences(int limit) {
+        return jdbcTemplate.update(ASSIGN_SEQUENCES_SQL, limit);
+    }
+
+    public List<AccountEventDTO> findUnpublished(int limit) {
+        return jdbcTemplate.query(FIND_UNPUBLISHED_SQL, EVENT_ROW_MAPPER, limit);
+    }
+
+    public int markPublished(long fromSequence, long toSequence) {
+        return jdbcTemplate.update(MARK_PUBLISHED_SQL, fromSequence, toSequence);
+    }
+
+    /**
+     * Events with a sequence greater than {@code since}, in sequence order. Events not yet numbered by the relay are
+     * not returned, so a consumer never sees a gap close behind it.
+     */
+    public List<AccountEventDTO> findSince(long since, int limit) {
+        return jdbcTemplate.query(FIND_SINCE_SQL, EVENT_ROW_MAPPER, since, limit);
+    }
+
+    /**
+     * Deletes the numbered events created before {@code cutoff}; with {@code onlyPublished} the ones a sink has not
+     * accepted yet are kept. The highest deleted sequence is kept as {@link #findPrunedThrough()}.
+     */
+    public int deleteBefore(Instant cutoff, boolean onlyPublished) {
+        Integer deleted = jdbcTemplate.queryForObject(
+                DELETE_BEFORE_SQL.formatted(onlyPublished ? " AND published_at IS NOT NULL" : ""),
+                Integer.class, Timestamp.from(cutoff));
+        return deleted != null ? deleted : 0;
+    }
+
+    /**
+     * The highest sequence {@link #deleteBefore} has removed, 0 before the first cleanup.
+     */
+    public long findPrunedThrough() {
+        Long prunedThrough = jdbcTemplate.queryForObject(FIND_PRUNED_THROUGH_SQL, Long.class);
+        return prunedThrough != null ? prunedThrough : 0;
+    }
+}
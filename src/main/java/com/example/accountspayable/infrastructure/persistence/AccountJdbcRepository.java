@@ -0,0 +1,359 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.domain.entity.AccountEntity;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Plain JDBC access to the accounts table for the bulk paths where per-entity JPA saves are too slow, and for
+ * single-statement updates that return the written row instead of reading it back.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO accounts (id, due_date, payment_date, value, description, status) VALUES (?, ?, ?, ?, ?, ?)";
+
+    // the status may stay or make an allowed transition, as in UPDATE_STATUS_SQL, whether or not a version is sent;
+    // a reversed payment loses its payment date
+    private static final String UPDATE_SQL =
+            "UPDATE accounts SET due_date = ?,"
+                    + " payment_date = CASE WHEN ? = 'PAID' OR status <> 'PAID' THEN CAST(? AS date) END,"
+                    + " value = ?, description = ?, status = ?, version = version + 1"
+                    + " WHERE id = ? AND version = COALESCE(?, version) AND status = ANY (string_to_array(?, ','))";
+
+    // compare-and-set: only rows whose current status may move to the new one are written, so a concurrent change
+    // is never overwritten; a reversed payment loses its payment date
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE accounts SET status = ?,"
+                    + " payment_date = COALESCE(?, CASE WHEN status = 'PAID' THEN NULL ELSE payment_date END),"
+                    + " version = version + 1"
+                    + " WHERE id = ? AND status = ANY (string_to_array(?, ','))";
+
+    private static final String FIND_STATUSES_SQL = "SELECT id, status FROM accounts WHERE id = ANY (?)";
+
+    private static final String CREATE_STAGING_SQL =
+            "CREATE TEMP TABLE IF NOT EXISTS accounts_staging (LIKE accounts INCLUDING DEFAULTS) ON COMMIT DELETE ROWS";
+
+    private static final String COPY_STAGING_SQL =
+            "COPY accounts_staging (id, due_date, payment_date, value, description, status) FROM STDIN (FORMAT csv)";
+
+    private static final String MERGE_STAGING_SQL =
+            "INSERT INTO accounts (id, due_date, payment_date, value, description, status)"
+                    + " SELECT id, due_date, payment_date, value, description, status FROM accounts_staging";
+
+    private static final int COPY_CHUNK_CHARS = 64 * 1024;
+
+    private static final String SELECT_SQL =
+            "SELECT id, due_date, payment_date, value, description, status, version FROM accounts";
+
+    private static final String SEARCH_SQL =
+            "SELECT id, due_date, payment_date, value, description, status, version, rank FROM ("
+                    + "SELECT a.*, ts_rank(a.description_tsv, query) AS rank"
+                    + " FROM accounts a, to_tsquery('public.portuguese_unaccent', ?) query"
+                    + " WHERE a.description_tsv @@ query) hits";
+
+    private static final String SEARCH_AFTER_SQL = " WHERE rank < ? OR (rank = ? AND id > ?)";
+
+    private static final String SEARCH_ORDER_SQL = " ORDER BY rank DESC, id LIMIT ?";
+
+    private static final String RETURNING_COLUMNS =
+            " RETURNING id, due_date, payment_date, value, description, status, version";
+
+    private static final String UPDATE_ONE_SQL = UPDATE_SQL + RETURNING_COLUMNS;
+
+    private static final String UPDATE_STATUS_ONE_SQL = UPDATE_STATUS_SQL + RETURNING_COLUMNS;
+
+    private static final RowMapper<AccountEntity> ACCOUNT_ROW_MAPPER = (rs, rowNum) -> AccountEntity.builder()
+            .id(rs.getObject("id", UUID.class))
+            .dueDate(rs.getObject("due_date", LocalDate.class))
+            .paymentDate(rs.getObject("payment_date", LocalDate.class))
+            .value(rs.getBigDecimal("value"))
+            .description(rs.getString("description"))
+            .status(AccountStatus.valueOf(rs.getString("status")))
+            .version(rs.getLong("version"))
+            .build();
+
+    private static final RowMapper<AccountSearchHit> SEARCH_HIT_ROW_MAPPER = (rs, rowNum) ->
+            new AccountSearchHit(ACCOUNT_ROW_MAPPER.mapRow(rs, rowNum), rs.getFloat("rank"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts all accounts as a single JDBC batch in one transaction.
+     */
+    @Transactional
+    public int insertAll(List<AccountRequestDTO> accounts) {
+        return insertAll(accounts.stream().map(account -> UUID.randomUUID()).toList(), accounts);
+    }
+
+    /**
+     * Same as {@link #insertAll(List)} with caller-assigned ids, matched to the accounts by position.
+     */
+    @Transactional
+    public int insertAll(List<UUID> ids, List<AccountRequestDTO> accounts) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AccountRequestDTO account = accounts.get(i);
+                ps.setObject(1, ids.get(i));
+                ps.setDate(2, Date.valueOf(account.getDueDate()));
+                ps.setDate(3, toDate(account.getPaymentDate()));
+                ps.setBigDecimal(4, account.getValue());
+                ps.setString(5, account.getDescription());
+                ps.setString(6, account.getStatus().name());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return accounts.size();
+            }
+        });
+        return accounts.size();
+    }
+
+    /**
+     * Streams the accounts through {@code COPY FROM STDIN} into a session-local staging table and moves them into
+     * {@code accounts} with a single INSERT ... SELECT. COPY skips the per-row statement overhead of a batch, and
+     * the merge fires the statement-level triggers on {@code accounts} once. Must run in a transaction: the staging
+     * table is emptied on commit.
+     */
+    @Transactional
+    public int copyAll(List<AccountRequestDTO> accounts) {
+        Integer merged = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_SQL);
+            }
+
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING_SQL);
+            try {
+                StringBuilder rows = new StringBuilder(COPY_CHUNK_CHARS + 512);
+                for (AccountRequestDTO account : accounts) {
+                    appendCsvRow(rows, account);
+                    if (rows.length() >= COPY_CHUNK_CHARS) {
+                        writeToCopy(copyIn, rows);
+                    }
+                }
+                writeToCopy(copyIn, rows);
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                return statement.executeUpdate(MERGE_STAGING_SQL);
+            }
+        });
+        return merged != null ? merged : 0;
+    }
+
+    /**
+     * Replaces the fields of each account in one batch, under the same conditions as {@link #update}; the returned
+     * counts are 0 for the accounts those conditions reject and for ids that do not exist.
+     */
+    @Transactional
+    public int[] updateAll(List<UUID> ids, List<AccountRequestDTO> accounts) {
+        return jdbcTemplate.batchUpdate(UPDATE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setUpdateValues(ps, ids.get(i), accounts.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+    }
+
+    /**
+     * Sets the status of each account in one batch, stamping {@code paymentDate} on PAID transitions. Only accounts
+     * whose current status may move to the new one are written ({@link AccountStatus#allowedSources()}); the
+     * returned counts are 0 for the others and for ids that do not exist.
+     */
+    @Transactional
+    public int[] updateStatuses(List<UUID> ids, List<AccountStatus> statuses, LocalDate paymentDate) {
+        return jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AccountStatus status = statuses.get(i);
+                ps.setString(1, status.name());
+                ps.setDate(2, status == AccountStatus.PAID ? Date.valueOf(paymentDate) : null);
+                ps.setObject(3, ids.get(i));
+                ps.setString(4, sources(status));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+    }
+
+    /**
+     * Replaces the fields of one account in a single statement and returns the row as written. The row is only
+     * touched if its current status may move to the requested one ({@link AccountStatus#canMoveTo}) and, when the
+     * request carries a version, if it still has that version. An empty result means the account is missing, in a
+     * status that may not move to the requested one, or was changed by someone else.
+     */
+    @Transactional
+    public Optional<AccountEntity> update(UUID id, AccountRequestDTO account) {
+        return jdbcTemplate.query(UPDATE_ONE_SQL, ps -> setUpdateValues(ps, id, account), ACCOUNT_ROW_MAPPER)
+                .stream().findFirst();
+    }
+
+    /**
+     * Single-row form of {@link #updateStatuses}, returning the row as written or empty when the id does not exist
+     * or its status may not move to {@code status}.
+     */
+    @Transactional
+    public Optional<AccountEntity> updateStatus(UUID id, AccountStatus status, LocalDate paymentDate) {
+        return jdbcTemplate.query(UPDATE_STATUS_ONE_SQL, ps -> {
+            ps.setString(1, status.name());
+            ps.setDate(2, status == AccountStatus.PAID ? Date.valueOf(paymentDate) : null);
+            ps.setObject(3, id);
+            ps.setString(4, sources(status));
+        }, ACCOUNT_ROW_MAPPER).stream().findFirst();
+    }
+
+    /**
+     * Current status of each of {@code ids} that exists.
+     */
+    public Map<UUID, AccountStatus> findStatuses(List<UUID> ids) {
+        Map<UUID, AccountStatus> statuses = new HashMap<>();
+        jdbcTemplate.query(FIND_STATUSES_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())),
+                rs -> {
+                    statuses.put(rs.getObject("id", UUID.class), AccountStatus.valueOf(rs.getString("status")));
+                });
+        return statuses;
+    }
+
+    /**
+     * Streams the accounts matching the listing filters of {@code AccountSpecifications.matching} in (due_date, id)
+     * order, through a forward-only cursor that fetches {@code fetchSize} rows at a time. PostgreSQL only honours the
+     * fetch size with autocommit off, hence the read-only transaction around the whole scan.
+     */
+    @Transactional(readOnly = true)
+    public void streamAccounts(LocalDate dueDate, String description, int fetchSize, Consumer<AccountEntity> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        if (dueDate != null && description != null) {
+            sql.append(" WHERE due_date = ? AND description = ?");
+            args.add(Date.valueOf(dueDate));
+            args.add(description);
+        } else if (dueDate != null) {
+            sql.append(" WHERE due_date = ?");
+            args.add(Date.valueOf(dueDate));
+        } else if (description != null) {
+            sql.append(" WHERE description LIKE ? ESCAPE '\\'");
+            args.add("%" + EscapeCharacter.DEFAULT.escape(description) + "%");
+        }
+        sql.append(" ORDER BY due_date, id");
+
+        int[] rowNum = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(ACCOUNT_ROW_MAPPER.mapRow(rs, rowNum[0]++)));
+    }
+
+    /**
+     * Full-text search over the generated {@code description_tsv} column, best {@code ts_rank} first and id as the
+     * tie-breaker. {@code tsquery} is handed to {@code to_tsquery} as is, so callers must build it from sanitized
+     * terms. When {@code afterId} is set only the hits ranked below ({@code afterRank}, {@code afterId}) are read,
+     * which makes the (rank, id) pair of the last hit the keyset cursor for the next page.
+     */
+    @Transactional(readOnly = true)
+    public List<AccountSearchHit> search(String tsquery, Float afterRank, UUID afterId, int limit) {
+        if (afterId == null) {
+            return jdbcTemplate.query(SEARCH_SQL + SEARCH_ORDER_SQL, SEARCH_HIT_ROW_MAPPER, tsquery, limit);
+        }
+        return jdbcTemplate.query(SEARCH_SQL + SEARCH_AFTER_SQL + SEARCH_ORDER_SQL, SEARCH_HIT_ROW_MAPPER,
+                tsquery, afterRank, afterRank, afterId, limit);
+    }
+
+    private static void appendCsvRow(StringBuilder rows, AccountRequestDTO account) {
+        rows.append(UUID.randomUUID()).append(',')
+                .append(account.getDueDate()).append(',');
+        if (account.getPaymentDate() != null) {
+            rows.append(account.getPaymentDate());
+        }
+        rows.append(',').append(account.getValue().toPlainString()).append(",\"");
+        String description = account.getDescription();
+        for (int i = 0; i < description.length(); i++) {
+            char c = description.charAt(i);
+            if (c == '"') {
+                rows.append('"');
+            }
+            rows.append(c);
+        }
+        rows.append("\",").append(account.getStatus().name()).append('\n');
+    }
+
+    private static void writeToCopy(CopyIn copyIn, StringBuilder rows) throws SQLException {
+        if (rows.length() == 0) {
+            return;
+        }
+        byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        rows.setLength(0);
+    }
+
+    private static void setUpdateValues(PreparedStatement ps, UUID id, AccountRequestDTO account) throws SQLException {
+        AccountStatus status = account.getStatus();
+        ps.setDate(1, Date.valueOf(account.getDueDate()));
+        ps.setString(2, status.name());
+        ps.setDate(3, toDate(account.getPaymentDate()));
+        ps.setBigDecimal(4, account.getValue());
+        ps.setString(5, account.getDescription());
+        ps.setString(6, status.name());
+        ps.setObject(7, id);
+        ps.setObject(8, account.getVersion(), Types.BIGINT);
+        ps.setString(9, sources(status) + "," + status.name());
+    }
+
+    private static String sources(AccountStatus target) {
+        return target.allowedSources().stream().map(Enum::name).collect(Collectors.joining(","));
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * Maintenance of the monthly {@code accounts} partitions through the functions defined in
+ * {@code V8__partition_accounts_by_due_date.sql}. Each call serializes on an advisory lock, so several nodes can run
+ * the maintenance at the same time.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountPartitionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the missing partitions for every month from {@code from} through {@code to}; returns how many were created.
+     */
+    public int createPartitions(LocalDate from, LocalDate to) {
+        return count("SELECT create_accounts_partitions(?, ?)", from, to);
+    }
+
+    /**
+     * Moves the rows that landed in the default partition into partitions of their own month.
+     */
+    public int splitDefaultPartition() {
+        return count("SELECT split_accounts_default_partition()");
+    }
+
+    /**
+     * Detaches the partitions of months before {@code before} into the {@code accounts_archive} schema and takes
+     * their PAID rows out of {@code paid_daily_totals}; returns how many were archived.
+     */
+    public int archivePartitionsBefore(LocalDate before) {
+        return count("SELECT archive_accounts_partitions(?)", before);
+    }
+
+    private int count(String sql, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import com.example.accountspayable.application.dto.AccountReportDTO;
+import com.example.accountspayable.application.dto.ReportBucketDTO;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import com.example.accountspayable.domain.enums.AgingBucket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Aggregates accounts in a single pass with {@code GROUPING SETS}, so a report costs one scan of the months it
+ * covers however many groupings it returns.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountReportRepository {
+
+    // GROUPING(month, status, aging) has a bit set for every column the row is NOT grouped by
+    private static final int BY_MONTH_AND_STATUS = 0b001;
+    private static final int BY_MONTH = 0b011;
+    private static final int BY_STATUS = 0b101;
+    private static final int BY_AGING = 0b110;
+    private static final int TOTAL = 0b111;
+
+    // the aging bounds are bound as dates, so the CASE compares due_date directly and stays a simple expression
+    private static final String REPORT_SQL =
+            "SELECT GROUPING(month, status, aging) AS grouping, month, status, aging,"
+                    + " count(*) AS count, coalesce(sum(value), 0) AS total"
+                    + " FROM (SELECT date_trunc('month', due_date)::date AS month, status, value,"
+                    + " CASE WHEN status NOT IN ('PENDING', 'OVERDUE') THEN NULL"
+                    + " WHEN due_date >= ? THEN 'NOT_DUE'"
+                    + " WHEN due_date >= ? THEN 'DAYS_1_30'"
+                    + " WHEN due_date >= ? THEN 'DAYS_31_60'"
+                    + " WHEN due_date >= ? THEN 'DAYS_61_90'"
+                    + " ELSE 'OVER_90' END AS aging"
+                    + " FROM accounts WHERE 1 = 1%s) a"
+                    + " GROUP BY GROUPING SETS ((), (status), (month), (month, status), (aging))"
+                    + " ORDER BY grouping, month, status, aging";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Totals, by status, by month of due date, by month and status, and the aging of open accounts as of
+     * {@code asOf}, over the accounts due between {@code from} and {@code to}; either bound may be null.
+     */
+    public AccountReportDTO report(LocalDate from, LocalDate to, LocalDate asOf) {
+        List<Object> args = new ArrayList<>(List.of(asOf, asOf.minusDays(30), asOf.minusDays(60), asOf.minusDays(90)));
+        StringBuilder where = new StringBuilder();
+        if (from != null) {
+            where.append(" AND due_date >= ?");
+            args.add(from);
+        }
+        if (to != null) {
+            where.append(" AND due_date <= ?");
+            args.add(to);
+        }
+
+        AccountReportDTO report = AccountReportDTO.builder()
+                .from(from)
+                .to(to)
+                .asOf(asOf)
+                .byStatus(new ArrayList<>())
+                .byMonth(new ArrayList<>())
+                .byMonthAndStatus(new ArrayList<>())
+                .aging(new ArrayList<>())
+                .build();
+
+        jdbcTemplate.query(String.format(REPORT_SQL, where), rs -> {
+            LocalDate month = rs.getObject("month", LocalDate.class);
+            String status = rs.getString("status");
+            String aging = rs.getString("aging");
+            ReportBucketDTO bucket = ReportBucketDTO.builder()
+                    .month(month != null ? YearMonth.from(month) : null)
+                    .status(status != null ? AccountStatus.valueOf(status) : null)
+                    .aging(aging != null ? AgingBucket.valueOf(aging) : null)
+                    .count(rs.getLong("count"))
+                    .total(rs.getBigDecimal("total"))
+                    .build();
+
+            switch (rs.getInt("grouping")) {
+                case TOTAL -> report.setTotal(bucket);
+                case BY_STATUS -> report.getByStatus().add(bucket);
+                case BY_MONTH -> report.getByMonth().add(bucket);
+                case BY_MONTH_AND_STATUS -> report.getByMonthAndStatus().add(bucket);
+                case BY_AGING -> {
+                    // the group of accounts that are not open has no bucket
+                    if (aging != null) {
+                        report.getAging().add(bucket);
+                    }
+                }
+                default -> throw new RuntimeException("Unexpected grouping " + rs.getInt("grouping"));
+            }
+        }, args.toArray());
+        report.getAging().sort(Comparator.comparing(ReportBucketDTO::getAging));
+        return report;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import com.example.accountspayable.domain.entity.AccountEntity;
+
+/**
+ * One full-text search match with the {@code ts_rank} it was ordered by.
+ */
+public record AccountSearchHit(AccountEntity account, float rank) {
+}
@@ -0,0 +1,71 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Access to the {@code idempotency_keys} table of {@code V10__create_idempotency_keys.sql}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+    // an expired row is taken over as if it were not there; a live one, committed or not, is left alone
+    private static final String CLAIM_SQL =
+            "INSERT INTO idempotency_keys (scope, idempotency_key, request_hash, expires_at) VALUES (?, ?, ?, ?)"
+                    + " ON CONFLICT (scope, idempotency_key) DO UPDATE"
+                    + " SET request_hash = EXCLUDED.request_hash, response = NULL, created_at = now(),"
+                    + " expires_at = EXCLUDED.expires_at"
+                    + " WHERE idempotency_keys.expires_at < now()"
+                    + " RETURNING true";
+
+    private static final String COMPLETE_SQL =
+            "UPDATE idempotency_keys SET response = ?::jsonb, expires_at = ? WHERE scope = ? AND idempotency_key = ?";
+
+    private static final String FIND_SQL =
+            "SELECT request_hash, response::text AS response FROM idempotency_keys WHERE scope = ? AND idempotency_key = ?";
+
+    private static final String RELEASE_SQL = "DELETE FROM idempotency_keys WHERE scope = ? AND idempotency_key = ?";
+
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM idempotency_keys WHERE expires_at < now()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The stored request fingerprint and response of a key; {@code response} is null while the first request is
+     * still being processed.
+     */
+    public record StoredRequest(String requestHash, String response) {
+    }
+
+    /**
+     * Claims {@code key} for a new request. Waits for a concurrent transaction that claimed the same key, and returns
+     * false when that transaction commits or the key is already taken.
+     */
+    public boolean claim(String scope, String key, String requestHash, Instant expiresAt) {
+        return !jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> true, scope, key, requestHash, Timestamp.from(expiresAt)).isEmpty();
+    }
+
+    public void complete(String scope, String key, String response, Instant expiresAt) {
+        jdbcTemplate.update(COMPLETE_SQL, response, Timestamp.from(expiresAt), scope, key);
+    }
+
+    public Optional<StoredRequest> find(String scope, String key) {
+        return jdbcTemplate.query(FIND_SQL,
+                (rs, rowNum) -> new StoredRequest(rs.getString("request_hash"), rs.getString("response")),
+                scope, key).stream().findFirst();
+    }
+
+    public void release(String scope, String key) {
+        jdbcTemplate.update(RELEASE_SQL, scope, key);
+    }
+
+    public int deleteExpired() {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL);
+    }
+}
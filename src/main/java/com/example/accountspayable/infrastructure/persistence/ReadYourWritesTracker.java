@@ -0,0 +1,78 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps the reads of a client that just wrote on the primary, so they skip the replica until it has had time to catch
+ * up. Every authenticated request that may write (anything but GET, HEAD and OPTIONS) answers with a
+ * {@value #COOKIE} cookie holding the time of the write; requests that send it back within {@code window} read from
+ * the primary, everyone else keeps using the replica. Clients that do not keep cookies simply read from the replica.
+ * Writes outside a request (schedulers, import jobs) are not tracked.
+ */
+public class ReadYourWritesTracker extends OncePerRequestFilter {
+
+    public static final String COOKIE = "last-write";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final String WRITE_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".write";
+
+    private final Duration window;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!READ_METHODS.contains(request.getMethod())) {
+            request.setAttribute(WRITE_ATTRIBUTE, Boolean.TRUE);
+            Cookie cookie = new Cookie(COOKIE, Long.toString(System.currentTimeMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    public boolean mustReadPrimary() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getAttribute(WRITE_ATTRIBUTE) != null) {
+            return true;
+        }
+        if (request.getCookies() == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE.equals(cookie.getName())) {
+                long writtenAt = parse(cookie.getValue());
+                return writtenAt <= now && now - writtenAt < window.toMillis();
+            }
+        }
+        return false;
+    }
+
+    private static long parse(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
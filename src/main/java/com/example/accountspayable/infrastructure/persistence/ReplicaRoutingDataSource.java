@@ -0,0 +1,58 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Hands out replica connections to read-only transactions and primary connections to everything else. Reads go to
+ * the primary as well while the calling client is inside its read-your-writes window, and for {@code retryInterval}
+ * after the replica failed to hand out a connection.
+ * <p>
+ * The read-only flag is only known once the transaction has started, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which defers fetching the connection
+ * to the first statement.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Duration retryInterval;
+
+    private volatile long replicaRetryAt = System.nanoTime();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWrites,
+                                    Duration retryInterval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWrites = readYourWrites;
+        this.retryInterval = retryInterval;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || readYourWrites.mustReadPrimary()
+                || System.nanoTime() - replicaRetryAt < 0) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            replicaRetryAt = System.nanoTime() + retryInterval.toNanos();
+            log.warn("Replica unavailable, reading from the primary for the next {}: {}", retryInterval, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.accountspayable.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Authenticates requests carrying {@code Authorization: Bearer <token>}. A verified token is cached for
+ * {@code ttl} (never past its own expiry), so repeated calls with the same token skip the signature check;
+ * tokens that fail verification are not cached. Requests without a bearer token fall through to HTTP Basic.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, long maximumSize, Duration ttl) {
+        this.jwtUtil = jwtUtil;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            Authentication authentication = authenticate(header.substring(BEARER_PREFIX.length()));
+            if (authentication != null) {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    Authentication authenticate(String token) {
+        VerifiedToken verified = verifiedTokens.getIfPresent(token);
+        if (verified == null) {
+            Claims claims;
+            try {
+                claims = jwtUtil.extractClaims(token);
+            } catch (JwtException | IllegalArgumentException e) {
+                return null;
+            }
+            verified = new VerifiedToken(UsernamePasswordAuthenticationToken.authenticated(
+                    claims.getSubject(), null, authorities(claims)), claims.getExpiration().toInstant());
+            verifiedTokens.put(token, verified);
+        }
+        if (!verified.expiresAt().isAfter(Instant.now())) {
+            verifiedTokens.invalidate(token);
+            return null;
+        }
+        return verified.authentication();
+    }
+
+    private static List<SimpleGrantedAuthority> authorities(Claims claims) {
+        Object authorities = claims.get(JwtUtil.AUTHORITIES_CLAIM);
+        if (!(authorities instanceof Collection<?> values)) {
+            return List.of();
+        }
+        return values.stream().map(value -> new SimpleGrantedAuthority(value.toString())).toList();
+    }
+
+    private record VerifiedToken(Authentication authentication, Instant expiresAt) {
+    }
+}
@@ -1,28 +1,62 @@
 package com.example.accountspayable.infrastructure.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
+/**
+ * Issues and verifies the HS256 tokens handed out by {@code POST /api/auth/login}. The key and the parser are built
+ * once; verifying a token is a single parse that checks the signature and the expiry together.
+ */
 @Component
 public class JwtUtil {
 
-    private final String secretKey = "yourSecretKey";
+    static final String AUTHORITIES_CLAIM = "authorities";
 
-    public String generateToken(String username) {
+    @Value("${security.jwt.secret}")
+    private String secret;
+
+    @Value("${security.jwt.expiration:PT10H}")
+    private Duration expiration;
+
+    private SecretKey key;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+    }
+
+    public String generateToken(String username, Collection<String> authorities) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .claim(AUTHORITIES_CLAIM, List.copyOf(authorities))
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration.toMillis()))
+                .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Returns the claims of a token signed with our key and not yet expired; throws {@link JwtException} otherwise.
+     */
     public Claims extractClaims(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String extractUsername(String token) {
@@ -30,10 +64,14 @@ public class JwtUtil {
     }
 
     public boolean isTokenValid(String token, String username) {
-        return extractUsername(token).equals(username) && !isTokenExpired(token);
+        try {
+            return extractClaims(token).getSubject().equals(username);
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractClaims(token).getExpiration().before(new Date());
+    public Duration getExpiration() {
+        return expiration;
     }
 }
@@ -1,14 +1,34 @@
 package com.example.accountspayable.presentation;
 
+import com.example.accountspayable.application.AccountBulkService;
+import com.example.accountspayable.application.AccountChangeFeedService;
+import com.example.accountspayable.application.AccountExportService;
+import com.example.accountspayable.application.AccountReportService;
 import com.example.accountspayable.application.AccountService;
+import com.example.accountspayable.application.IdempotencyService;
+import com.example.accountspayable.application.IdempotentResult;
+import com.example.accountspayable.application.ImportJobService;
+import com.example.accountspayable.application.dto.AccountChangesDTO;
+import com.example.accountspayable.application.dto.AccountReportDTO;
 import com.example.accountspayable.application.dto.AccountRequestDTO;
 import com.example.accountspayable.application.dto.AccountResponseDTO;
+import com.example.accountspayable.application.dto.BulkAccountUpdateDTO;
+import com.example.accountspayable.application.dto.BulkItemResultDTO;
+import com.example.accountspayable.application.dto.BulkStatusUpdateDTO;
+import com.example.accountspayable.application.dto.CursorPageDTO;
+import com.example.accountspayable.application.dto.ImportJobStatusDTO;
 import com.example.accountspayable.domain.enums.AccountStatus;
+import com.example.accountspayable.domain.enums.ExportFormat;
+import com.example.accountspayable.domain.enums.ImportEngine;
 import com.example.accountspayable.presentation.dto.ResponseDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,13 +37,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -32,14 +59,34 @@ import java.util.UUID;
 @EnableSpringDataWebSupport(pageSerializationMode = EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO)
 public class AccountController {
 
+    private static final int MAX_SCROLL_SIZE = 1000;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final TypeReference<AccountResponseDTO> ACCOUNT_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<List<BulkItemResultDTO>> BULK_RESULTS_TYPE = new TypeReference<>() {
+    };
+
     private final AccountService accountService;
+    private final AccountBulkService accountBulkService;
+    private final AccountExportService accountExportService;
+    private final ImportJobService importJobService;
+    private final AccountChangeFeedService accountChangeFeedService;
+    private final AccountReportService accountReportService;
+    private final IdempotencyService idempotencyService;
 
     @GetMapping
     public ResponseEntity<ResponseDTO<Page<AccountResponseDTO>>> getAccounts(
             @RequestParam(required = false) LocalDate dueDate,
             @RequestParam(required = false) String description,
-            Pageable pageable) {
+            @RequestParam(required = false) String fields,
+            Pageable pageable,
+            WebRequest request) {
+        Set<String> requestedFields = SparseFieldsAdvice.parse(fields);
         Page<AccountResponseDTO> accounts = accountService.getAccounts(dueDate, description, pageable);
+        if (request.checkNotModified(AccountETags.of(accounts.getContent(), requestedFields, accounts.getTotalElements()))) {
+            return null;
+        }
         if (accounts.isEmpty()) {
             return ResponseEntity.ok(
                     ResponseDTO.<Page<AccountResponseDTO>>builder()
@@ -58,10 +105,99 @@ public class AccountController {
         );
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ResponseDTO<CursorPageDTO<AccountResponseDTO>>> scrollAccounts(
+            @RequestParam(required = false) LocalDate dueDate,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new RuntimeException("Size must be between 1 and " + MAX_SCROLL_SIZE);
+        }
+        Set<String> requestedFields = SparseFieldsAdvice.parse(fields);
+
+        CursorPageDTO<AccountResponseDTO> accounts = accountService.scrollAccounts(dueDate, description, cursor, size);
+        if (request.checkNotModified(AccountETags.of(accounts.getContent(), requestedFields, accounts.isHasNext()))) {
+            return null;
+        }
+        return ResponseEntity.ok(
+                ResponseDTO.<CursorPageDTO<AccountResponseDTO>>builder()
+                        .status("success")
+                        .message("Accounts retrieved successfully")
+                        .data(accounts)
+                        .build()
+        );
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ResponseDTO<CursorPageDTO<AccountResponseDTO>>> searchAccounts(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new RuntimeException("Size must be between 1 and " + MAX_SCROLL_SIZE);
+        }
+        Set<String> requestedFields = SparseFieldsAdvice.parse(fields);
+
+        CursorPageDTO<AccountResponseDTO> accounts = accountService.searchAccounts(q, cursor, size);
+        if (request.checkNotModified(AccountETags.of(accounts.getContent(), requestedFields, accounts.isHasNext()))) {
+            return null;
+        }
+        return ResponseEntity.ok(
+                ResponseDTO.<CursorPageDTO<AccountResponseDTO>>builder()
+                        .status("success")
+                        .message("Accounts retrieved successfully")
+                        .data(accounts)
+                        .build()
+        );
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ResponseDTO<AccountChangesDTO>> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "500") int limit) {
+        if (limit < 1 || limit > MAX_SCROLL_SIZE) {
+            throw new RuntimeException("Limit must be between 1 and " + MAX_SCROLL_SIZE);
+        }
+
+        AccountChangesDTO changes = accountChangeFeedService.getChanges(since, limit);
+        return ResponseEntity.ok(
+                ResponseDTO.<AccountChangesDTO>builder()
+                        .status("success")
+                        .message("Changes retrieved successfully")
+                        .data(changes)
+                        .build()
+        );
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAccounts(
+            @RequestParam(required = false) LocalDate dueDate,
+            @RequestParam(required = false) String description,
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        MediaType contentType = format == ExportFormat.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        String fileName = "accounts." + (format == ExportFormat.CSV ? "csv" : "ndjson");
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(outputStream -> accountExportService.exportAccounts(dueDate, description, format, outputStream));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseDTO<AccountResponseDTO>> getAccountById(@PathVariable UUID id) {
+    public ResponseEntity<ResponseDTO<AccountResponseDTO>> getAccountById(
+            @PathVariable UUID id, @RequestParam(required = false) String fields, WebRequest request) {
+        Set<String> requestedFields = SparseFieldsAdvice.parse(fields);
         AccountResponseDTO account = accountService.getAccountById(id)
                 .orElseThrow(() -> new RuntimeException("Account not found"));
+        if (request.checkNotModified(AccountETags.of(account, requestedFields))) {
+            return null;
+        }
         return ResponseEntity.ok(
                 ResponseDTO.<AccountResponseDTO>builder()
                         .status("success")
@@ -72,13 +208,16 @@ public class AccountController {
     }
 
     @PostMapping
-    public ResponseEntity<ResponseDTO<AccountResponseDTO>> createAccount(@RequestBody AccountRequestDTO accountRequestDTO) {
-        AccountResponseDTO createdAccount = accountService.createAccount(accountRequestDTO);
-        return ResponseEntity.ok(
+    public ResponseEntity<ResponseDTO<AccountResponseDTO>> createAccount(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody AccountRequestDTO accountRequestDTO) {
+        IdempotentResult<AccountResponseDTO> createdAccount = idempotencyService.execute("accounts.create", idempotencyKey,
+                accountRequestDTO, ACCOUNT_TYPE, () -> accountService.createAccount(accountRequestDTO));
+        return replayAware(ResponseEntity.ok(), createdAccount).body(
                 ResponseDTO.<AccountResponseDTO>builder()
                         .status("success")
                         .message("Account created successfully")
-                        .data(createdAccount)
+                        .data(createdAccount.value())
                         .build()
         );
     }
@@ -109,17 +248,43 @@ public class AccountController {
 
     @PatchMapping("/{id}/status")
     public ResponseEntity<ResponseDTO<AccountResponseDTO>> updateAccountStatus(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @PathVariable UUID id, @RequestParam AccountStatus status) {
-        AccountResponseDTO updatedAccount = accountService.updateAccountStatus(id, status);
-        return ResponseEntity.ok(
+        IdempotentResult<AccountResponseDTO> updatedAccount = idempotencyService.execute("accounts.status", idempotencyKey,
+                List.of(id, status), ACCOUNT_TYPE, () -> accountService.updateAccountStatus(id, status));
+        return replayAware(ResponseEntity.ok(), updatedAccount).body(
                 ResponseDTO.<AccountResponseDTO>builder()
                         .status("success")
                         .message("Account status updated successfully")
-                        .data(updatedAccount)
+                        .data(updatedAccount.value())
                         .build()
         );
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<ResponseDTO<List<BulkItemResultDTO>>> createAccounts(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody List<AccountRequestDTO> accounts) {
+        return bulkResponse("created", idempotencyService.executeInSteps("accounts.bulk.create", idempotencyKey,
+                accounts, BULK_RESULTS_TYPE, () -> accountBulkService.createAccounts(accounts)));
+    }
+
+    @PutMapping("/bulk")
+    public ResponseEntity<ResponseDTO<List<BulkItemResultDTO>>> updateAccounts(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody List<BulkAccountUpdateDTO> updates) {
+        return bulkResponse("updated", idempotencyService.executeInSteps("accounts.bulk.update", idempotencyKey,
+                updates, BULK_RESULTS_TYPE, () -> accountBulkService.updateAccounts(updates)));
+    }
+
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<ResponseDTO<List<BulkItemResultDTO>>> updateAccountStatuses(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody List<BulkStatusUpdateDTO> updates) {
+        return bulkResponse("status updated", idempotencyService.executeInSteps("accounts.bulk.status", idempotencyKey,
+                updates, BULK_RESULTS_TYPE, () -> accountBulkService.updateAccountStatuses(updates)));
+    }
+
     @GetMapping("/total-paid")
     public ResponseEntity<ResponseDTO<BigDecimal>> getTotalPaid(
             @RequestParam LocalDate startDate,
@@ -134,13 +299,69 @@ public class AccountController {
         );
     }
 
+    @GetMapping("/report")
+    public ResponseEntity<ResponseDTO<AccountReportDTO>> getReport(
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to) {
+        AccountReportDTO report = accountReportService.getReport(from, to, LocalDate.now());
+        return ResponseEntity.ok(
+                ResponseDTO.<AccountReportDTO>builder()
+                        .status("success")
+                        .message("Report retrieved successfully")
+                        .data(report)
+                        .build()
+        );
+    }
+
     @PostMapping("/import")
-    public String importAccounts(@RequestParam("file") MultipartFile file) {
+    public ResponseEntity<ResponseDTO<ImportJobStatusDTO>> importAccounts(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "1") int parallelism,
+            @RequestParam(defaultValue = "BATCH") ImportEngine engine) {
         if (file.isEmpty()) {
             throw new RuntimeException("File is empty");
         }
 
-        accountService.importAccountsFromCsv(file);
-        return "Accounts imported successfully!";
+        IdempotentResult<ImportJobStatusDTO> job = importJobService.submit(file, parallelism, engine, idempotencyKey);
+        return replayAware(ResponseEntity.accepted(), job)
+                .location(URI.create("/api/accounts/import/" + job.value().getJobId()))
+                .body(
+                        ResponseDTO.<ImportJobStatusDTO>builder()
+                                .status("success")
+                                .message(job.replayed() ? "Import job already submitted" : "Import job accepted")
+                                .data(job.value())
+                                .build()
+                );
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ResponseDTO<ImportJobStatusDTO>> getImportJob(@PathVariable UUID jobId) {
+        ImportJobStatusDTO job = importJobService.getJob(jobId)
+                .orElseThrow(() -> new RuntimeException("Import job not found"));
+        return ResponseEntity.ok(
+                ResponseDTO.<ImportJobStatusDTO>builder()
+                        .status("success")
+                        .message("Import job retrieved successfully")
+                        .data(job)
+                        .build()
+        );
+    }
+
+    private ResponseEntity<ResponseDTO<List<BulkItemResultDTO>>> bulkResponse(
+            String action, IdempotentResult<List<BulkItemResultDTO>> outcome) {
+        List<BulkItemResultDTO> results = outcome.value();
+        long failed = results.stream().filter(result -> !"success".equals(result.getStatus())).count();
+        return replayAware(ResponseEntity.ok(), outcome).body(
+                ResponseDTO.<List<BulkItemResultDTO>>builder()
+                        .status(failed == 0 ? "success" : "partial")
+                        .message((results.size() - failed) + " accounts " + action + ", " + failed + " failed")
+                        .data(results)
+                        .build()
+        );
+    }
+
+    private static ResponseEntity.BodyBuilder replayAware(ResponseEntity.BodyBuilder response, IdempotentResult<?> result) {
+        return result.replayed() ? response.header(IDEMPOTENT_REPLAYED_HEADER, "true") : response;
     }
 }
@@ -0,0 +1,49 @@
+package com.example.accountspayable.presentation;
+
+import com.example.accountspayable.application.dto.AccountResponseDTO;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Entity tags derived from the id and version of the accounts in a response, so a conditional GET is answered
+ * without serializing or hashing the body. They are weak because the body may be compressed, and they cover the
+ * requested fields, since those change the body too.
+ */
+final class AccountETags {
+
+    private AccountETags() {
+    }
+
+    static String of(AccountResponseDTO account, Set<String> fields) {
+        return weak(account.getId() + "-" + account.getVersion() + fieldsSuffix(fields));
+    }
+
+    /**
+     * {@code metadata} is whatever else the list response shows, such as its total or next cursor.
+     */
+    static String of(Collection<AccountResponseDTO> accounts, Set<String> fields, Object... metadata) {
+        StringBuilder source = new StringBuilder(accounts.size() * 40);
+        for (AccountResponseDTO account : accounts) {
+            source.append(account.getId()).append(':').append(account.getVersion()).append(',');
+        }
+        for (Object value : metadata) {
+            source.append('|').append(value);
+        }
+        return weak(md5(source.toString()) + fieldsSuffix(fields));
+    }
+
+    private static String fieldsSuffix(Set<String> fields) {
+        return fields == null ? "" : "-" + md5(String.join(",", fields)).substring(0, 8);
+    }
+
+    private static String md5(String source) {
+        return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String weak(String tag) {
+        return "W/\"" + tag + "\"";
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.accountspayable.presentation;
+
+import com.example.accountspayable.application.AuthService;
+import com.example.accountspayable.application.dto.LoginRequestDTO;
+import com.example.accountspayable.application.dto.TokenResponseDTO;
+import com.example.accountspayable.presentation.dto.ResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class AuthController {
+
+    private final AuthService authService;
+
+    @PostMapping("/login")
+    public ResponseEntity<ResponseDTO<TokenResponseDTO>> login(@RequestBody LoginRequestDTO loginRequestDTO) {
+        TokenResponseDTO token = authService.login(loginRequestDTO);
+        return ResponseEntity.ok(
+                ResponseDTO.<TokenResponseDTO>builder()
+                        .status("success")
+                        .message("Login successful")
+                        .data(token)
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.accountspayable.presentation;
+
+import com.example.accountspayable.application.AccountChangesExpiredException;
+import com.example.accountspayable.application.AccountStatusConflictException;
+import com.example.accountspayable.application.IdempotencyKeyMismatchException;
+import com.example.accountspayable.presentation.dto.ResponseDTO;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class RestExceptionHandler {
+
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ResponseDTO<Void>> handleConflict(ConcurrencyFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                ResponseDTO.<Void>builder()
+                        .status("error")
+                        .message(e.getMessage())
+                        .build()
+        );
+    }
+
+    @ExceptionHandler(AccountStatusConflictException.class)
+    public ResponseEntity<ResponseDTO<Void>> handleStatusConflict(AccountStatusConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                ResponseDTO.<Void>builder()
+                        .status("error")
+                        .message(e.getMessage())
+                        .build()
+        );
+    }
+
+    @ExceptionHandler(AccountChangesExpiredException.class)
+    public ResponseEntity<ResponseDTO<Void>> handleChangesExpired(AccountChangesExpiredException e) {
+        return ResponseEntity.status(HttpStatus.GONE).body(
+                ResponseDTO.<Void>builder()
+                        .status("error")
+                        .message(e.getMessage())
+                        .build()
+        );
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ResponseDTO<Void>> handleIdempotencyKeyMismatch(IdempotencyKeyMismatchException e) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(
+                ResponseDTO.<Void>builder()
+                        .status("error")
+                        .message(e.getMessage())
+                        .build()
+        );
+    }
+
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ResponseDTO<Void>> handleUnauthorized(AuthenticationException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
+                ResponseDTO.<Void>builder()
+                        .status("error")
+                        .message("Invalid username or password")
+                        .build()
+        );
+    }
+}
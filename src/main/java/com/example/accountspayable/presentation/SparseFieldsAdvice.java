@@ -0,0 +1,75 @@
+package com.example.accountspayable.presentation;
+
+import com.example.accountspayable.application.dto.AccountResponseDTO;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldsets: with {@code fields=id,value,status} every account in the response body, single or in a list,
+ * is written with those fields only. The envelope and paging fields are not affected.
+ */
+@RestControllerAdvice
+public class SparseFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String FIELDS_PARAMETER = "fields";
+
+    private static final Set<String> ACCOUNT_FIELDS = Arrays.stream(AccountResponseDTO.class.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+            .map(Field::getName)
+            .collect(Collectors.toUnmodifiableSet());
+
+    /**
+     * The requested fields in a stable order, or null when all of them are wanted. Controllers call this to reject
+     * unknown names before the body is written.
+     */
+    static Set<String> parse(String fields) {
+        Set<String> requested = split(fields);
+        if (requested != null && !ACCOUNT_FIELDS.containsAll(requested)) {
+            Set<String> unknown = new TreeSet<>(requested);
+            unknown.removeAll(ACCOUNT_FIELDS);
+            throw new RuntimeException("Unknown fields " + unknown + ", expected any of " + new TreeSet<>(ACCOUNT_FIELDS));
+        }
+        return requested;
+    }
+
+    private static Set<String> split(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(TreeSet::new));
+        return requested.isEmpty() ? null : requested;
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        // also reached by error responses, so unknown names are ignored here rather than rejected
+        Set<String> fields = split(servletRequest.getServletRequest().getParameter(FIELDS_PARAMETER));
+        if (fields != null) {
+            bodyContainer.setFilters(new SimpleFilterProvider().setFailOnUnknownId(false)
+                    .addFilter(AccountResponseDTO.FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+-- Responses of writes sent with an Idempotency-Key, so a retried request is answered from here instead of being
+-- applied twice. A row without a response is a claim of a request still being processed; expires_at bounds how long
+-- it blocks retries and, once the response is stored, how long the response is replayed.
+
+CREATE TABLE idempotency_keys (
+    scope VARCHAR(50) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash CHAR(64) NOT NULL,
+    response JSONB,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    expires_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (scope, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
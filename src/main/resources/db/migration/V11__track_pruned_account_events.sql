@@ -0,0 +1,10 @@
+-- Highest sequence the retention cleanup has deleted. A consumer of /api/accounts/changes whose since is below it may
+-- have missed events and has to rescan. Sequences can have gaps (a rolled back relay batch burns its numbers), so the
+-- oldest kept sequence alone cannot tell a deleted event from a number that was never used.
+
+CREATE TABLE account_events_pruned (
+    id BOOLEAN PRIMARY KEY DEFAULT true CHECK (id),
+    through_sequence BIGINT NOT NULL
+);
+
+INSERT INTO account_events_pruned (through_sequence) VALUES (0);
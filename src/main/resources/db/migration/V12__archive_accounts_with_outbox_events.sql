@@ -0,0 +1,47 @@
+-- Since V8 the primary key is (id, due_date), so the database no longer keeps id unique on its own, and an update
+-- that moves due_date to another month moves the row to another partition under the same id. Every WHERE id = ?
+-- path still treats id as unique: the only guarantee is that ids are random UUIDs generated by the application
+-- (UUID.randomUUID() and the JPA generator), never taken from a client request.
+COMMENT ON COLUMN accounts.id IS
+    'Unique by generation only: random UUIDs created by the application; the primary key is (id, due_date)';
+
+-- Same as in V8, plus one ARCHIVED event per archived row, so change feed consumers learn that the accounts left
+-- accounts like they do for every other write. Detaching fires no trigger, hence the explicit insert, which commits
+-- with the detach.
+CREATE OR REPLACE FUNCTION archive_accounts_partitions(p_before DATE) RETURNS integer AS $$
+DECLARE
+    v_name TEXT;
+    v_archived INTEGER := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('accounts_partitions'));
+    FOR v_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'public.accounts'::regclass
+          AND c.relname ~ '^accounts_[0-9]{4}_[0-9]{2}$'
+          AND to_date(substr(c.relname, 10), 'YYYY_MM') < date_trunc('month', p_before)
+        ORDER BY c.relname
+    LOOP
+        -- the lock DETACH takes anyway, taken before the events are read so no write slips in between; the due_date
+        -- range lets the read touch that partition only
+        LOCK TABLE accounts IN ACCESS EXCLUSIVE MODE;
+        EXECUTE format('INSERT INTO account_events (account_id, event_type, payload)'
+                           || ' SELECT a.id, ''ARCHIVED'', account_event_payload(a) FROM accounts a'
+                           || ' WHERE a.due_date >= $1 AND a.due_date < $1 + INTERVAL ''1 month'''
+                           || ' AND a.tableoid = ''public.%I''::regclass', v_name)
+            USING to_date(substr(v_name, 10), 'YYYY_MM');
+        EXECUTE format('ALTER TABLE accounts DETACH PARTITION public.%I', v_name);
+        EXECUTE format('INSERT INTO paid_daily_totals (payment_date, total_value, paid_count)'
+                           || ' SELECT payment_date, -SUM(value), -COUNT(*) FROM public.%I'
+                           || ' WHERE status = ''PAID'' AND payment_date IS NOT NULL'
+                           || ' GROUP BY payment_date ORDER BY payment_date'
+                           || ' ON CONFLICT (payment_date) DO UPDATE'
+                           || ' SET total_value = paid_daily_totals.total_value + EXCLUDED.total_value,'
+                           || ' paid_count = paid_daily_totals.paid_count + EXCLUDED.paid_count', v_name);
+        EXECUTE format('ALTER TABLE public.%I SET SCHEMA accounts_archive', v_name);
+        v_archived := v_archived + 1;
+    END LOOP;
+    RETURN v_archived;
+END;
+$$ LANGUAGE plpgsql;
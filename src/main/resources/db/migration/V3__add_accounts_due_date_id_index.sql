@@ -0,0 +1 @@
+CREATE INDEX idx_accounts_due_date_id ON accounts (due_date, id);
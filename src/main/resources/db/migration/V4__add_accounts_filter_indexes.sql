@@ -0,0 +1,10 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- findTotalPaidBetweenDates: equality on status, range on payment_date, value covered for index-only sums
+CREATE INDEX idx_accounts_status_payment_date ON accounts (status, payment_date) INCLUDE (value);
+
+-- open accounts only: the overdue transition and aging queries never look at PAID rows
+CREATE INDEX idx_accounts_open_due_date ON accounts (due_date) WHERE status IN ('PENDING', 'OVERDUE');
+
+-- findByDescriptionContaining: LIKE '%term%' cannot use a btree
+CREATE INDEX idx_accounts_description_trgm ON accounts USING gin (description gin_trgm_ops);
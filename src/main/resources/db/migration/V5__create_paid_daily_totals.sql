@@ -0,0 +1,76 @@
+-- Daily rollup of PAID accounts so /total-paid sums day buckets instead of scanning accounts.
+-- Maintained by statement-level triggers, so every write path (JPA, JDBC batches, bulk updates) keeps it exact.
+
+LOCK TABLE accounts IN SHARE ROW EXCLUSIVE MODE;
+
+CREATE TABLE paid_daily_totals (
+    payment_date DATE PRIMARY KEY,
+    total_value NUMERIC(19, 2) NOT NULL,
+    paid_count BIGINT NOT NULL
+);
+
+INSERT INTO paid_daily_totals (payment_date, total_value, paid_count)
+SELECT payment_date, SUM(value), COUNT(*)
+FROM accounts
+WHERE status = 'PAID' AND payment_date IS NOT NULL
+GROUP BY payment_date;
+
+CREATE FUNCTION accounts_paid_daily_totals() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO paid_daily_totals (payment_date, total_value, paid_count)
+        SELECT payment_date, SUM(value), COUNT(*)
+        FROM new_accounts
+        WHERE status = 'PAID' AND payment_date IS NOT NULL
+        GROUP BY payment_date
+        ORDER BY payment_date
+        ON CONFLICT (payment_date) DO UPDATE
+            SET total_value = paid_daily_totals.total_value + EXCLUDED.total_value,
+                paid_count = paid_daily_totals.paid_count + EXCLUDED.paid_count;
+    ELSIF TG_OP = 'UPDATE' THEN
+        INSERT INTO paid_daily_totals (payment_date, total_value, paid_count)
+        SELECT payment_date, SUM(delta_value), SUM(delta_count)
+        FROM (
+            SELECT payment_date, value AS delta_value, 1 AS delta_count
+            FROM new_accounts
+            WHERE status = 'PAID' AND payment_date IS NOT NULL
+            UNION ALL
+            SELECT payment_date, -value, -1
+            FROM old_accounts
+            WHERE status = 'PAID' AND payment_date IS NOT NULL
+        ) deltas
+        GROUP BY payment_date
+        HAVING SUM(delta_value) <> 0 OR SUM(delta_count) <> 0
+        ORDER BY payment_date
+        ON CONFLICT (payment_date) DO UPDATE
+            SET total_value = paid_daily_totals.total_value + EXCLUDED.total_value,
+                paid_count = paid_daily_totals.paid_count + EXCLUDED.paid_count;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO paid_daily_totals (payment_date, total_value, paid_count)
+        SELECT payment_date, -SUM(value), -COUNT(*)
+        FROM old_accounts
+        WHERE status = 'PAID' AND payment_date IS NOT NULL
+        GROUP BY payment_date
+        ORDER BY payment_date
+        ON CONFLICT (payment_date) DO UPDATE
+            SET total_value = paid_daily_totals.total_value + EXCLUDED.total_value,
+                paid_count = paid_daily_totals.paid_count + EXCLUDED.paid_count;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_accounts_paid_daily_totals_insert
+    AFTER INSERT ON accounts
+    REFERENCING NEW TABLE AS new_accounts
+    FOR EACH STATEMENT EXECUTE FUNCTION accounts_paid_daily_totals();
+
+CREATE TRIGGER trg_accounts_paid_daily_totals_update
+    AFTER UPDATE ON accounts
+    REFERENCING OLD TABLE AS old_accounts NEW TABLE AS new_accounts
+    FOR EACH STATEMENT EXECUTE FUNCTION accounts_paid_daily_totals();
+
+CREATE TRIGGER trg_accounts_paid_daily_totals_delete
+    AFTER DELETE ON accounts
+    REFERENCING OLD TABLE AS old_accounts
+    FOR EACH STATEMENT EXECUTE FUNCTION accounts_paid_daily_totals();
@@ -0,0 +1,2 @@
+-- optimistic locking: every write path bumps the version, updates may require the version the client last read
+ALTER TABLE accounts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- portuguese stemming on accent-folded words, so "agua" matches "Conta de água"
+CREATE TEXT SEARCH CONFIGURATION portuguese_unaccent (COPY = portuguese);
+ALTER TEXT SEARCH CONFIGURATION portuguese_unaccent
+    ALTER MAPPING FOR hword, hword_part, word WITH unaccent, portuguese_stem;
+
+-- kept in sync by PostgreSQL; the config is spelled out so the expression stays immutable
+ALTER TABLE accounts
+    ADD COLUMN description_tsv tsvector
+        GENERATED ALWAYS AS (to_tsvector('public.portuguese_unaccent'::regconfig, description)) STORED;
+
+-- searchAccounts: @@ against the generated column
+CREATE INDEX idx_accounts_description_tsv ON accounts USING gin (description_tsv);
@@ -0,0 +1,130 @@
+-- Monthly range partitions on due_date. Date-filtered queries only touch the months they ask for, and old months
+-- can be detached whole instead of deleted row by row. The primary key has to include the partition key, so it
+-- becomes (id, due_date); lookups by id alone probe the id index of every partition.
+
+LOCK TABLE accounts IN ACCESS EXCLUSIVE MODE;
+
+ALTER TABLE accounts RENAME TO accounts_unpartitioned;
+ALTER INDEX accounts_pkey RENAME TO accounts_unpartitioned_pkey;
+
+-- LIKE keeps the column types the table has today, including the generated description_tsv from V7
+CREATE TABLE accounts (
+    LIKE accounts_unpartitioned INCLUDING DEFAULTS INCLUDING GENERATED,
+    PRIMARY KEY (id, due_date)
+) PARTITION BY RANGE (due_date);
+
+-- catches due dates whose month has no partition yet, so writes never fail; split_accounts_default_partition
+-- moves them out
+CREATE TABLE accounts_default PARTITION OF accounts DEFAULT;
+
+-- archived months keep their table, outside of accounts
+CREATE SCHEMA IF NOT EXISTS accounts_archive;
+
+-- Creates the partition accounts_YYYY_MM for the month of p_month, moving any rows of that month out of the default
+-- partition first. Statement triggers only fire for statements against accounts itself, so the move leaves
+-- paid_daily_totals alone. Returns false when the partition already exists.
+CREATE FUNCTION create_accounts_partition(p_month DATE) RETURNS boolean AS $$
+DECLARE
+    v_from DATE := date_trunc('month', p_month)::date;
+    v_to DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::date;
+    v_name TEXT := 'accounts_' || to_char(p_month, 'YYYY_MM');
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('accounts_partitions'));
+    IF to_regclass(format('public.%I', v_name)) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+
+    EXECUTE format('CREATE TABLE public.%I (LIKE accounts INCLUDING DEFAULTS INCLUDING GENERATED)', v_name);
+    EXECUTE format('ALTER TABLE public.%I ADD CHECK (due_date >= %L AND due_date < %L)', v_name, v_from, v_to);
+    EXECUTE format('WITH moved AS (DELETE FROM accounts_default WHERE due_date >= $1 AND due_date < $2'
+                       || ' RETURNING id, due_date, payment_date, value, description, status, version)'
+                       || ' INSERT INTO public.%I (id, due_date, payment_date, value, description, status, version)'
+                       || ' SELECT * FROM moved', v_name)
+        USING v_from, v_to;
+    EXECUTE format('ALTER TABLE accounts ATTACH PARTITION public.%I FOR VALUES FROM (%L) TO (%L)', v_name, v_from, v_to);
+    RETURN true;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates the missing monthly partitions from the month of p_from through the month of p_to.
+CREATE FUNCTION create_accounts_partitions(p_from DATE, p_to DATE) RETURNS integer AS $$
+    SELECT count(*) FILTER (WHERE create_accounts_partition(month::date))::integer
+    FROM generate_series(date_trunc('month', p_from), date_trunc('month', p_to), INTERVAL '1 month') AS month;
+$$ LANGUAGE sql;
+
+-- Gives every month found in the default partition its own partition.
+CREATE FUNCTION split_accounts_default_partition() RETURNS integer AS $$
+    SELECT count(*) FILTER (WHERE create_accounts_partition(month))::integer
+    FROM (SELECT DISTINCT date_trunc('month', due_date)::date AS month FROM accounts_default) months;
+$$ LANGUAGE sql;
+
+-- Detaches every monthly partition that ends on or before the month of p_before and moves it to accounts_archive.
+-- Detaching fires no trigger, so the archived PAID rows are taken out of paid_daily_totals here.
+CREATE FUNCTION archive_accounts_partitions(p_before DATE) RETURNS integer AS $$
+DECLARE
+    v_name TEXT;
+    v_archived INTEGER := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('accounts_partitions'));
+    FOR v_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'public.accounts'::regclass
+          AND c.relname ~ '^accounts_[0-9]{4}_[0-9]{2}$'
+          AND to_date(substr(c.relname, 10), 'YYYY_MM') < date_trunc('month', p_before)
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE accounts DETACH PARTITION public.%I', v_name);
+        EXECUTE format('INSERT INTO paid_daily_totals (payment_date, total_value, paid_count)'
+                           || ' SELECT payment_date, -SUM(value), -COUNT(*) FROM public.%I'
+                           || ' WHERE status = ''PAID'' AND payment_date IS NOT NULL'
+                           || ' GROUP BY payment_date ORDER BY payment_date'
+                           || ' ON CONFLICT (payment_date) DO UPDATE'
+                           || ' SET total_value = paid_daily_totals.total_value + EXCLUDED.total_value,'
+                           || ' paid_count = paid_daily_totals.paid_count + EXCLUDED.paid_count', v_name);
+        EXECUTE format('ALTER TABLE public.%I SET SCHEMA accounts_archive', v_name);
+        v_archived := v_archived + 1;
+    END LOOP;
+    RETURN v_archived;
+END;
+$$ LANGUAGE plpgsql;
+
+-- one partition per month that already has accounts, plus the current month and the next three
+SELECT create_accounts_partition(month)
+FROM (
+    SELECT DISTINCT date_trunc('month', due_date)::date AS month FROM accounts_unpartitioned
+    UNION
+    SELECT generate_series(date_trunc('month', current_date), date_trunc('month', current_date) + INTERVAL '3 months',
+                           INTERVAL '1 month')::date
+) months;
+
+-- paid_daily_totals already holds these rows, the triggers are created after the copy
+INSERT INTO accounts (id, due_date, payment_date, value, description, status, version)
+SELECT id, due_date, payment_date, value, description, status, version FROM accounts_unpartitioned;
+
+DROP TABLE accounts_unpartitioned;
+
+-- same indexes as V3, V4 and V7, now created on every partition
+CREATE INDEX idx_accounts_due_date_id ON accounts (due_date, id);
+CREATE INDEX idx_accounts_status_payment_date ON accounts (status, payment_date) INCLUDE (value);
+CREATE INDEX idx_accounts_open_due_date ON accounts (due_date) WHERE status IN ('PENDING', 'OVERDUE');
+CREATE INDEX idx_accounts_description_trgm ON accounts USING gin (description gin_trgm_ops);
+CREATE INDEX idx_accounts_description_tsv ON accounts USING gin (description_tsv);
+
+CREATE TRIGGER trg_accounts_paid_daily_totals_insert
+    AFTER INSERT ON accounts
+    REFERENCING NEW TABLE AS new_accounts
+    FOR EACH STATEMENT EXECUTE FUNCTION accounts_paid_daily_totals();
+
+CREATE TRIGGER trg_accounts_paid_daily_totals_update
+    AFTER UPDATE ON accounts
+    REFERENCING OLD TABLE AS old_accounts NEW TABLE AS new_accounts
+    FOR EACH STATEMENT EXECUTE FUNCTION accounts_paid_daily_totals();
+
+CREATE TRIGGER trg_accounts_paid_daily_totals_delete
+    AFTER DELETE ON accounts
+    REFERENCING OLD TABLE AS old_accounts
+    FOR EACH STATEMENT EXECUTE FUNCTION accounts_paid_daily_totals();
+
+ANALYZE accounts;
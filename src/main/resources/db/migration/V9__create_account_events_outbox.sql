@@ -0,0 +1,74 @@
+-- Transactional outbox: every statement that writes accounts records one event per row in the same transaction.
+-- Like paid_daily_totals, it is maintained by statement-level triggers, so JPA saves, JDBC batches, the COPY merge
+-- and markOverdue are all covered.
+--
+-- Events are numbered later by AccountEventRelay: ids follow insertion order, which is not commit order, so the
+-- relay assigns the consumer-facing sequence to committed events only, one batch at a time under an advisory lock.
+
+CREATE SEQUENCE account_event_sequence;
+
+CREATE TABLE account_events (
+    id BIGSERIAL PRIMARY KEY,
+    sequence BIGINT UNIQUE,
+    account_id UUID NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    published_at TIMESTAMPTZ
+);
+
+CREATE INDEX idx_account_events_unsequenced ON account_events (id) WHERE sequence IS NULL;
+CREATE INDEX idx_account_events_unpublished ON account_events (sequence) WHERE sequence IS NOT NULL AND published_at IS NULL;
+
+CREATE FUNCTION account_event_payload(a accounts) RETURNS jsonb AS $$
+    SELECT jsonb_build_object(
+        'id', a.id,
+        'dueDate', a.due_date,
+        'paymentDate', a.payment_date,
+        'value', a.value,
+        'description', a.description,
+        'status', a.status,
+        'version', a.version);
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE FUNCTION accounts_outbox() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO account_events (account_id, event_type, payload)
+        SELECT n.id, 'CREATED', account_event_payload(n)
+        FROM new_accounts n;
+    ELSIF TG_OP = 'UPDATE' THEN
+        INSERT INTO account_events (account_id, event_type, payload)
+        SELECT n.id,
+               CASE
+                   WHEN o.status <> n.status
+                       AND (o.due_date, o.value, o.description) = (n.due_date, n.value, n.description)
+                       THEN 'STATUS_CHANGED'
+                   ELSE 'UPDATED'
+               END,
+               account_event_payload(n)
+        FROM new_accounts n
+        JOIN old_accounts o ON o.id = n.id;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO account_events (account_id, event_type, payload)
+        SELECT o.id, 'DELETED', account_event_payload(o)
+        FROM old_accounts o;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_accounts_outbox_insert
+    AFTER INSERT ON accounts
+    REFERENCING NEW TABLE AS new_accounts
+    FOR EACH STATEMENT EXECUTE FUNCTION accounts_outbox();
+
+CREATE TRIGGER trg_accounts_outbox_update
+    AFTER UPDATE ON accounts
+    REFERENCING OLD TABLE AS old_accounts NEW TABLE AS new_accounts
+    FOR EACH STATEMENT EXECUTE FUNCTION accounts_outbox();
+
+CREATE TRIGGER trg_accounts_outbox_delete
+    AFTER DELETE ON accounts
+    REFERENCING OLD TABLE AS old_accounts
+    FOR EACH STATEMENT EXECUTE FUNCTION accounts_outbox();
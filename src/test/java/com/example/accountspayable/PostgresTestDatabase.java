@@ -0,0 +1,86 @@
+package com.example.accountspayable;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assumptions;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * A throwaway PostgreSQL database with the Flyway migrations applied, for tests that need the real planner.
+ * Uses the server in {@code TEST_DATABASE_URL} (plus {@code TEST_DATABASE_USERNAME}/{@code TEST_DATABASE_PASSWORD})
+ * when set, otherwise a Testcontainers PostgreSQL; the test is skipped when neither is available.
+ */
+public final class PostgresTestDatabase implements AutoCloseable {
+
+    private static PostgreSQLContainer<?> container;
+
+    private final String adminUrl;
+    private final String username;
+    private final String password;
+    private final String databaseName;
+    private final HikariDataSource dataSource;
+
+    private PostgresTestDatabase(String adminUrl, String username, String password) throws SQLException {
+        this.adminUrl = adminUrl;
+        this.username = username;
+        this.password = password;
+        this.databaseName = "accounts_test_" + UUID.randomUUID().toString().replace("-", "");
+        execute("CREATE DATABASE " + databaseName);
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(adminUrl.substring(0, adminUrl.lastIndexOf('/') + 1) + databaseName);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(16);
+        this.dataSource = new HikariDataSource(config);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    public static PostgresTestDatabase create() throws SQLException {
+        String url = System.getenv("TEST_DATABASE_URL");
+        if (url != null) {
+            return new PostgresTestDatabase(url, System.getenv("TEST_DATABASE_USERNAME"), System.getenv("TEST_DATABASE_PASSWORD"));
+        }
+
+        Assumptions.assumeTrue(DockerClientFactory.instance().isDockerAvailable(),
+                "Neither TEST_DATABASE_URL nor Docker is available");
+        synchronized (PostgresTestDatabase.class) {
+            if (container == null) {
+                container = new PostgreSQLContainer<>("postgres:15");
+                container.start();
+            }
+        }
+        return new PostgresTestDatabase(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        dataSource.close();
+        execute("DROP DATABASE IF EXISTS " + databaseName);
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(adminUrl, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.application.dto.BulkAccountUpdateDTO;
+import com.example.accountspayable.application.dto.BulkItemResultDTO;
+import com.example.accountspayable.application.dto.BulkStatusUpdateDTO;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import com.example.accountspayable.infrastructure.config.CacheConfig;
+import com.example.accountspayable.infrastructure.persistence.AccountJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBulkServiceTest {
+
+    @Mock
+    private AccountJdbcRepository accountJdbcRepository;
+
+    private AccountBulkService accountBulkService;
+
+    @BeforeEach
+    void setUp() {
+        accountBulkService = new AccountBulkService(accountJdbcRepository,
+                new ConcurrentMapCacheManager(CacheConfig.ACCOUNTS_CACHE, CacheConfig.TOTAL_PAID_CACHE));
+        ReflectionTestUtils.setField(accountBulkService, "chunkSize", 2);
+        ReflectionTestUtils.setField(accountBulkService, "maxItems", 100);
+    }
+
+    @Test
+    void testCreateAccountsValidatesAndWritesInChunks() {
+        AccountRequestDTO missingValue = account("Assinatura de Internet");
+        missingValue.setValue(null);
+
+        List<BulkItemResultDTO> results = accountBulkService.createAccounts(List.of(
+                account("Conta de eletricidade"), missingValue, account("Conta de água"), account("Aluguel")));
+
+        assertEquals("success", results.get(0).getStatus());
+        assertNotNull(results.get(0).getId());
+        assertEquals("error", results.get(1).getStatus());
+        assertEquals("Value is required", results.get(1).getMessage());
+        assertEquals("success", results.get(3).getStatus());
+        verify(accountJdbcRepository, times(2)).insertAll(anyList(), anyList());
+    }
+
+    @Test
+    void testUpdateAccountsRejectsStaleVersionsAndForbiddenTransitions() {
+        UUID current = UUID.randomUUID();
+        UUID stale = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        AccountRequestDTO currentVersion = account("Conta de eletricidade");
+        currentVersion.setVersion(3L);
+        AccountRequestDTO staleVersion = account("Conta de água");
+        staleVersion.setVersion(1L);
+        AccountRequestDTO unknown = account("Aluguel");
+        UUID paid = UUID.randomUUID();
+        AccountRequestDTO overdue = account("Condomínio");
+        overdue.setStatus(AccountStatus.OVERDUE);
+        when(accountJdbcRepository.updateAll(List.of(current, stale), List.of(currentVersion, staleVersion)))
+                .thenReturn(new int[]{1, 0});
+        when(accountJdbcRepository.updateAll(List.of(missing, paid), List.of(unknown, overdue))).thenReturn(new int[]{0, 0});
+        when(accountJdbcRepository.findStatuses(List.of(stale, missing, paid)))
+                .thenReturn(Map.of(stale, AccountStatus.PENDING, paid, AccountStatus.PAID));
+
+        List<BulkItemResultDTO> results = accountBulkService.updateAccounts(List.of(
+                new BulkAccountUpdateDTO(current, currentVersion),
+                new BulkAccountUpdateDTO(stale, staleVersion),
+                new BulkAccountUpdateDTO(missing, unknown),
+                new BulkAccountUpdateDTO(paid, overdue)));
+
+        assertEquals("success", results.get(0).getStatus());
+        assertEquals("Account was modified by another request", results.get(1).getMessage());
+        assertEquals("Account not found", results.get(2).getMessage());
+        assertEquals("Account is PAID and cannot change to OVERDUE", results.get(3).getMessage());
+    }
+
+    @Test
+    void testUpdateAccountStatusesReportsMissingAndRejectedItems() {
+        UUID found = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        UUID rejected = UUID.randomUUID();
+        when(accountJdbcRepository.updateStatuses(eq(List.of(found, missing)), eq(List.of(AccountStatus.PAID, AccountStatus.PAID)), any(LocalDate.class)))
+                .thenReturn(new int[]{1, 0});
+        when(accountJdbcRepository.updateStatuses(eq(List.of(rejected)), eq(List.of(AccountStatus.OVERDUE)), any(LocalDate.class)))
+                .thenThrow(new DataIntegrityViolationException("check constraint"));
+
+        List<BulkItemResultDTO> results = accountBulkService.updateAccountStatuses(List.of(
+                new BulkStatusUpdateDTO(found, AccountStatus.PAID),
+                new BulkStatusUpdateDTO(missing, AccountStatus.PAID),
+                new BulkStatusUpdateDTO(rejected, AccountStatus.OVERDUE)));
+
+        assertEquals("success", results.get(0).getStatus());
+        assertEquals("Account not found", results.get(1).getMessage());
+        assertEquals("error", results.get(2).getStatus());
+        verify(accountJdbcRepository, times(3)).updateStatuses(anyList(), anyList(), any(LocalDate.class));
+    }
+
+    @Test
+    void testUpdateAccountStatusesExplainsUnmatchedItems() {
+        UUID paid = UUID.randomUUID();
+        UUID alreadyPaid = UUID.randomUUID();
+        when(accountJdbcRepository.updateStatuses(eq(List.of(paid, alreadyPaid)), eq(List.of(AccountStatus.OVERDUE, AccountStatus.PAID)), any(LocalDate.class)))
+                .thenReturn(new int[]{0, 0});
+        when(accountJdbcRepository.findStatuses(List.of(paid, alreadyPaid)))
+                .thenReturn(Map.of(paid, AccountStatus.PAID, alreadyPaid, AccountStatus.PAID));
+
+        List<BulkItemResultDTO> results = accountBulkService.updateAccountStatuses(List.of(
+                new BulkStatusUpdateDTO(paid, AccountStatus.OVERDUE),
+                new BulkStatusUpdateDTO(alreadyPaid, AccountStatus.PAID)));
+
+        assertEquals("error", results.get(0).getStatus());
+        assertEquals("Account is PAID and cannot change to OVERDUE", results.get(0).getMessage());
+        assertEquals("success", results.get(1).getStatus());
+    }
+
+    private AccountRequestDTO account(String description) {
+        return AccountRequestDTO.builder()
+                .dueDate(LocalDate.of(2024, 11, 1))
+                .value(new BigDecimal("500.00"))
+                .description(description)
+                .status(AccountStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.AccountChangesDTO;
+import com.example.accountspayable.application.dto.AccountEventDTO;
+import com.example.accountspayable.domain.enums.AccountEventType;
+import com.example.accountspayable.infrastructure.persistence.AccountEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountChangeFeedServiceTest {
+
+    @Mock
+    private AccountEventRepository accountEventRepository;
+
+    @InjectMocks
+    private AccountChangeFeedService accountChangeFeedService;
+
+    @Test
+    void testGetChangesReturnsNextSinceOfTheLastEvent() {
+        when(accountEventRepository.findSince(10, 3)).thenReturn(List.of(event(11), event(12), event(15)));
+
+        AccountChangesDTO changes = accountChangeFeedService.getChanges(10, 2);
+
+        assertEquals(2, changes.getEvents().size());
+        assertEquals(12, changes.getNextSince());
+        assertTrue(changes.isHasMore());
+    }
+
+    @Test
+    void testGetChangesWithNothingNewKeepsSince() {
+        when(accountEventRepository.findSince(15, 3)).thenReturn(List.of());
+
+        AccountChangesDTO changes = accountChangeFeedService.getChanges(15, 2);
+
+        assertEquals(15, changes.getNextSince());
+        assertFalse(changes.isHasMore());
+    }
+
+    @Test
+    void testGetChangesBehindTheRetentionCleanupIsRejected() {
+        when(accountEventRepository.findSince(10, 3)).thenReturn(List.of(event(40)));
+        when(accountEventRepository.findPrunedThrough()).thenReturn(39L);
+
+        AccountChangesExpiredException exception = assertThrows(AccountChangesExpiredException.class,
+                () -> accountChangeFeedService.getChanges(10, 2));
+
+        assertEquals(39, exception.getPrunedThrough());
+        when(accountEventRepository.findSince(39, 3)).thenReturn(List.of(event(40)));
+        assertEquals(40, accountChangeFeedService.getChanges(39, 2).getNextSince());
+    }
+
+    private static AccountEventDTO event(long sequence) {
+        return AccountEventDTO.builder().sequence(sequence).accountId(UUID.randomUUID()).type(AccountEventType.UPDATED).build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.domain.entity.AccountEntity;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import com.example.accountspayable.domain.enums.ExportFormat;
+import com.example.accountspayable.infrastructure.importer.CsvAccountImporter;
+import com.example.accountspayable.infrastructure.importer.CsvRowHandler;
+import com.example.accountspayable.infrastructure.persistence.AccountJdbcRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class AccountExportServiceTest {
+
+    @Mock
+    private AccountJdbcRepository accountJdbcRepository;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private AccountExportService accountExportService;
+
+    private final List<AccountEntity> accounts = List.of(
+            account("Conta de eletricidade", AccountStatus.PENDING, null),
+            account("Aluguel, sala \"A\"\nbloco 2", AccountStatus.PAID, LocalDate.of(2024, 11, 3)));
+
+    @BeforeEach
+    void setUp() {
+        accountExportService = new AccountExportService(accountJdbcRepository, objectMapper);
+        ReflectionTestUtils.setField(accountExportService, "fetchSize", 500);
+        doAnswer(invocation -> {
+            Consumer<AccountEntity> consumer = invocation.getArgument(3);
+            accounts.forEach(consumer);
+            return null;
+        }).when(accountJdbcRepository).streamAccounts(eq(null), eq("Conta"), eq(500), any());
+    }
+
+    @Test
+    void testCsvExportCanBeImportedBack() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        accountExportService.exportAccounts(null, "Conta", ExportFormat.CSV, output);
+
+        assertTrue(output.toString(StandardCharsets.UTF_8).startsWith(AccountExportService.CSV_HEADER + "\n"));
+        List<AccountRequestDTO> imported = new ArrayList<>();
+        new CsvAccountImporter().importFromCsv(new ByteArrayInputStream(output.toByteArray()), new CsvRowHandler() {
+            @Override
+            public void onRow(long lineNumber, AccountRequestDTO account) {
+                imported.add(account);
+            }
+
+            @Override
+            public void onError(long lineNumber, String message) {
+                throw new AssertionError("Line " + lineNumber + ": " + message);
+            }
+        });
+
+        assertEquals(2, imported.size());
+        for (int i = 0; i < accounts.size(); i++) {
+            assertEquals(accounts.get(i).getDescription(), imported.get(i).getDescription());
+            assertEquals(accounts.get(i).getPaymentDate(), imported.get(i).getPaymentDate());
+            assertEquals(accounts.get(i).getValue(), imported.get(i).getValue());
+            assertEquals(accounts.get(i).getStatus(), imported.get(i).getStatus());
+        }
+    }
+
+    @Test
+    void testNdjsonExportWritesOneAccountPerLine() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        accountExportService.exportAccounts(null, "Conta", ExportFormat.NDJSON, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals(accounts.get(1).getId().toString(), second.get("id").asText());
+        assertEquals("2024-11-03", second.get("paymentDate").asText());
+        assertEquals(accounts.get(1).getDescription(), second.get("description").asText());
+    }
+
+    private AccountEntity account(String description, AccountStatus status, LocalDate paymentDate) {
+        return AccountEntity.builder()
+                .id(UUID.randomUUID())
+                .dueDate(LocalDate.of(2024, 11, 1))
+                .paymentDate(paymentDate)
+                .value(new BigDecimal("1234.50"))
+                .description(description)
+                .status(status)
+                .version(0L)
+                .build();
+    }
+}
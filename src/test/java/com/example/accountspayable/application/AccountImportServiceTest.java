@@ -0,0 +1,181 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.application.dto.ImportBatchDTO;
+import com.example.accountspayable.application.dto.ImportErrorDTO;
+import com.example.accountspayable.application.dto.ImportResultDTO;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import com.example.accountspayable.domain.enums.ImportEngine;
+import com.example.accountspayable.infrastructure.importer.CsvAccountImporter;
+import com.example.accountspayable.infrastructure.importer.CsvRowHandler;
+import com.example.accountspayable.infrastructure.persistence.AccountJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountImportServiceTest {
+
+    @Mock
+    private CsvAccountImporter csvAccountImporter;
+
+    @Mock
+    private AccountJdbcRepository accountJdbcRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private AccountImportService accountImportService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(accountImportService, "batchSize", 2);
+        ReflectionTestUtils.setField(accountImportService, "copyBatchSize", 3);
+        ReflectionTestUtils.setField(accountImportService, "maxReportedErrors", 10);
+    }
+
+    @Test
+    void testImportAccountsFromCsvWritesInBatches() {
+        InputStream inputStream = new ByteArrayInputStream(new byte[0]);
+        doAnswer(invocation -> {
+            CsvRowHandler handler = invocation.getArgument(1);
+            handler.onRow(2, account("Conta de eletricidade"));
+            handler.onRow(3, account("Assinatura de Internet"));
+            handler.onError(4, "Text 'invalid' could not be parsed at index 0");
+            handler.onRow(5, account("Conta de água"));
+            return null;
+        }).when(csvAccountImporter).importFromCsv(any(InputStream.class), any(CsvRowHandler.class));
+        when(accountJdbcRepository.insertAll(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        List<ImportBatchDTO> progress = new ArrayList<>();
+        ImportResultDTO result = accountImportService.importAccountsFromCsv(inputStream, ImportEngine.BATCH, progress::add);
+
+        assertEquals(4, result.getRowsParsed());
+        assertEquals(3, result.getRowsInserted());
+        assertEquals(1, result.getRowsRejected());
+        assertEquals(2, result.getBatches());
+        assertEquals(4, result.getErrors().get(0).getLine());
+        assertEquals(2, progress.size());
+        assertEquals(3, progress.get(1).getRowsInserted());
+        assertEquals(3, meterRegistry.counter("accounts.import.rows", "engine", "BATCH", "outcome", "inserted").count());
+        assertEquals(1, meterRegistry.counter("accounts.import.rows", "engine", "BATCH", "outcome", "rejected").count());
+        assertEquals(2, meterRegistry.timer("accounts.import.batch.duration", "engine", "BATCH").count());
+
+        verify(accountJdbcRepository, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    void testImportAccountsFromCsvWithCopyEngine() {
+        InputStream inputStream = new ByteArrayInputStream(new byte[0]);
+        doAnswer(invocation -> {
+            CsvRowHandler handler = invocation.getArgument(1);
+            for (int line = 2; line <= 5; line++) {
+                handler.onRow(line, account("Conta " + line));
+            }
+            return null;
+        }).when(csvAccountImporter).importFromCsv(any(InputStream.class), any(CsvRowHandler.class));
+        when(accountJdbcRepository.copyAll(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        ImportResultDTO result = accountImportService.importAccountsFromCsv(inputStream, ImportEngine.COPY, batch -> { });
+
+        assertEquals(4, result.getRowsInserted());
+        assertEquals(2, result.getBatches());
+        verify(accountJdbcRepository, times(2)).copyAll(anyList());
+        verify(accountJdbcRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void testImportAccountsFromCsvReportsRowsRejectedByDatabase() {
+        InputStream inputStream = new ByteArrayInputStream(new byte[0]);
+        AccountRequestDTO valid = account("Conta de eletricidade");
+        AccountRequestDTO invalid = account("Assinatura de Internet");
+        doAnswer(invocation -> {
+            CsvRowHandler handler = invocation.getArgument(1);
+            handler.onRow(2, valid);
+            handler.onRow(3, invalid);
+            return null;
+        }).when(csvAccountImporter).importFromCsv(any(InputStream.class), any(CsvRowHandler.class));
+        when(accountJdbcRepository.insertAll(List.of(valid, invalid)))
+                .thenThrow(new DataIntegrityViolationException("numeric field overflow"));
+        when(accountJdbcRepository.insertAll(List.of(valid))).thenReturn(1);
+        when(accountJdbcRepository.insertAll(List.of(invalid)))
+                .thenThrow(new DataIntegrityViolationException("numeric field overflow"));
+
+        ImportResultDTO result = accountImportService.importAccountsFromCsv(inputStream, ImportEngine.BATCH, batch -> { });
+
+        assertEquals(1, result.getRowsInserted());
+        assertEquals(1, result.getRowsRejected());
+        assertEquals(3, result.getErrors().get(0).getLine());
+    }
+
+    @Test
+    void testParallelImportMatchesRowCount(@TempDir Path tempDir) throws IOException {
+        StringBuilder csv = new StringBuilder("dueDate,paymentDate,value,description,status\n");
+        for (int i = 0; i < 5000; i++) {
+            csv.append(i % 97 == 0 ? "invalid" : "2024-11-01").append(",,10.00,\"Conta ").append(i).append("\",PENDING\n");
+        }
+        Path file = Files.writeString(tempDir.resolve("accounts.csv"), csv);
+
+        AccountImportService parallelService = new AccountImportService(new CsvAccountImporter(), accountJdbcRepository, cacheManager,
+                meterRegistry);
+        ReflectionTestUtils.setField(parallelService, "batchSize", 100);
+        ReflectionTestUtils.setField(parallelService, "maxReportedErrors", 10);
+        ReflectionTestUtils.setField(parallelService, "chunkSize", DataSize.ofKilobytes(8));
+        ReflectionTestUtils.setField(parallelService, "queueCapacity", 2);
+        when(accountJdbcRepository.insertAll(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        ImportResultDTO result = parallelService.importAccountsFromCsv(file, 4, ImportEngine.BATCH, batch -> { });
+
+        assertEquals(5000, result.getRowsParsed());
+        assertEquals(5000 - 52, result.getRowsInserted());
+        assertEquals(52, result.getRowsRejected());
+        assertEquals(LongStream.range(0, 10).map(i -> i * 97 + 2).boxed().toList(),
+                result.getErrors().stream().map(ImportErrorDTO::getLine).toList());
+        assertTrue(result.isErrorsTruncated());
+    }
+
+    private AccountRequestDTO account(String description) {
+        return AccountRequestDTO.builder()
+                .dueDate(LocalDate.of(2024, 11, 1))
+                .value(new BigDecimal("500.00"))
+                .description(description)
+                .status(AccountStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.AccountReportDTO;
+import com.example.accountspayable.infrastructure.config.CacheConfig;
+import com.example.accountspayable.infrastructure.persistence.AccountReportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+class AccountReportServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+    private static final LocalDate TODAY = LocalDate.of(2024, 12, 15);
+
+    @Configuration
+    @EnableCaching
+    @Import(AccountReportService.class)
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.REPORT_CACHE);
+        }
+    }
+
+    @MockBean
+    private AccountReportRepository accountReportRepository;
+
+    @Autowired
+    private AccountReportService accountReportService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.REPORT_CACHE).clear();
+    }
+
+    @Test
+    void testRepeatedReportIsServedFromCache() {
+        AccountReportDTO report = AccountReportDTO.builder().from(FROM).to(TO).asOf(TODAY).build();
+        when(accountReportRepository.report(FROM, TO, TODAY)).thenReturn(report);
+
+        assertSame(report, accountReportService.getReport(FROM, TO, TODAY));
+        assertSame(report, accountReportService.getReport(FROM, TO, TODAY));
+        verify(accountReportRepository, times(1)).report(FROM, TO, TODAY);
+
+        accountReportService.getReport(FROM, TO, TODAY.plusDays(1));
+        verify(accountReportRepository, times(1)).report(FROM, TO, TODAY.plusDays(1));
+    }
+
+    @Test
+    void testReportRejectsInvertedRange() {
+        assertThrows(RuntimeException.class, () -> accountReportService.getReport(TO, FROM, TODAY));
+        verify(accountReportRepository, never()).report(any(), any(), any());
+    }
+}
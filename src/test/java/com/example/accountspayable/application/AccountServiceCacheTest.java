@@ -0,0 +1,146 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.domain.entity.AccountEntity;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import com.example.accountspayable.domain.repository.AccountRepository;
+import com.example.accountspayable.infrastructure.config.CacheConfig;
+import com.example.accountspayable.infrastructure.persistence.AccountJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+class AccountServiceCacheTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+
+    @Configuration
+    @EnableCaching
+    @Import(AccountService.class)
+    static class Config {
+
+        @Bean
+        static BeanPostProcessor transactionAwareCacheManager() {
+            return CacheConfig.transactionAwareCacheManager();
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.ACCOUNTS_CACHE, CacheConfig.TOTAL_PAID_CACHE);
+        }
+    }
+
+    @MockBean
+    private AccountRepository accountRepository;
+
+    @MockBean
+    private AccountJdbcRepository accountJdbcRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void testGetAccountByIdIsCachedUntilUpdated() {
+        UUID id = UUID.randomUUID();
+        AccountEntity accountEntity = new AccountEntity();
+        accountEntity.setId(id);
+        accountEntity.setDescription("Conta de eletricidade");
+        accountEntity.setStatus(AccountStatus.PENDING);
+        when(accountRepository.findById(id)).thenReturn(Optional.of(accountEntity));
+        when(accountJdbcRepository.update(any(UUID.class), any(AccountRequestDTO.class))).thenReturn(Optional.of(accountEntity));
+
+        accountService.getAccountById(id);
+        accountService.getAccountById(id);
+        verify(accountRepository, times(1)).findById(id);
+
+        accountService.updateAccount(id, request(AccountStatus.PENDING));
+        accountService.getAccountById(id);
+        verify(accountRepository, times(2)).findById(id);
+    }
+
+    @Test
+    void testEvictionInsideATransactionWaitsForTheCommit() {
+        UUID id = UUID.randomUUID();
+        AccountEntity accountEntity = new AccountEntity();
+        accountEntity.setId(id);
+        accountEntity.setStatus(AccountStatus.PAID);
+        when(accountRepository.findById(id)).thenReturn(Optional.of(accountEntity));
+        when(accountJdbcRepository.updateStatus(any(UUID.class), any(AccountStatus.class), any(LocalDate.class)))
+                .thenReturn(Optional.of(accountEntity));
+        accountService.getAccountById(id);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            accountService.updateAccountStatus(id, AccountStatus.PAID);
+            assertNotNull(cacheManager.getCache(CacheConfig.ACCOUNTS_CACHE).get(id));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertNull(cacheManager.getCache(CacheConfig.ACCOUNTS_CACHE).get(id));
+    }
+
+    @Test
+    void testTotalPaidIsEvictedByPaidWrites() {
+        when(accountRepository.findTotalPaidBetweenDates(START, END)).thenReturn(Optional.of(new BigDecimal("1200.00")));
+        when(accountRepository.save(any(AccountEntity.class))).thenReturn(new AccountEntity());
+
+        assertEquals(new BigDecimal("1200.00"), accountService.getTotalPaid(START, END));
+        accountService.getTotalPaid(START, END);
+        verify(accountRepository, times(1)).findTotalPaidBetweenDates(START, END);
+
+        accountService.createAccount(request(AccountStatus.PENDING));
+        accountService.getTotalPaid(START, END);
+        verify(accountRepository, times(1)).findTotalPaidBetweenDates(START, END);
+
+        clearInvocations(accountRepository);
+        accountService.createAccount(request(AccountStatus.PAID));
+        accountService.getTotalPaid(START, END);
+        verify(accountRepository, times(1)).findTotalPaidBetweenDates(START, END);
+    }
+
+    private AccountRequestDTO request(AccountStatus status) {
+        return AccountRequestDTO.builder()
+                .dueDate(LocalDate.of(2024, 11, 1))
+                .value(new BigDecimal("500.00"))
+                .description("Conta de eletricidade")
+                .status(status)
+                .build();
+    }
+}
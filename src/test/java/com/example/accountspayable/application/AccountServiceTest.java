@@ -2,29 +2,40 @@ package com.example.accountspayable.application;
 
 import com.example.accountspayable.application.dto.AccountRequestDTO;
 import com.example.accountspayable.application.dto.AccountResponseDTO;
+import com.example.accountspayable.application.dto.CursorPageDTO;
 import com.example.accountspayable.domain.entity.AccountEntity;
 import com.example.accountspayable.domain.enums.AccountStatus;
 import com.example.accountspayable.domain.repository.AccountRepository;
-import com.example.accountspayable.infrastructure.importer.CsvAccountImporter;
+import com.example.accountspayable.infrastructure.persistence.AccountJdbcRepository;
+import com.example.accountspayable.infrastructure.persistence.AccountSearchHit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,7 +47,7 @@ class AccountServiceTest {
     private AccountRepository accountRepository;
 
     @Mock
-    private CsvAccountImporter csvAccountImporter;
+    private AccountJdbcRepository accountJdbcRepository;
 
     @InjectMocks
     private AccountService accountService;
@@ -62,6 +73,45 @@ class AccountServiceTest {
         verify(accountRepository, times(1)).findAll(pageable);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testScrollAccounts() {
+        List<AccountEntity> rows = List.of(
+                account(LocalDate.of(2024, 11, 1), "Conta de eletricidade"),
+                account(LocalDate.of(2024, 11, 10), "Assinatura de Internet"),
+                account(LocalDate.of(2024, 12, 5), "Conta de água"));
+        when(accountRepository.findBy(any(Specification.class), any(Function.class))).thenReturn(rows);
+
+        CursorPageDTO<AccountResponseDTO> result = accountService.scrollAccounts(null, null, null, 2);
+
+        assertEquals(2, result.getSize());
+        assertTrue(result.isHasNext());
+        assertEquals("Assinatura de Internet", result.getContent().get(1).getDescription());
+        AccountCursor cursor = AccountCursor.decode(result.getNextCursor());
+        assertEquals(rows.get(1).getDueDate(), cursor.dueDate());
+        assertEquals(rows.get(1).getId(), cursor.id());
+    }
+
+    @Test
+    void testSearchAccounts() {
+        List<AccountSearchHit> hits = List.of(
+                new AccountSearchHit(account(LocalDate.of(2024, 12, 5), "Conta de água"), 0.6f),
+                new AccountSearchHit(account(LocalDate.of(2024, 11, 1), "Água mineral"), 0.3f));
+        when(accountJdbcRepository.search("agu:* & C3:*", null, null, 2)).thenReturn(hits);
+
+        CursorPageDTO<AccountResponseDTO> result = accountService.searchAccounts(" agu, C3'", null, 1);
+
+        assertEquals(1, result.getSize());
+        assertTrue(result.isHasNext());
+        SearchCursor cursor = SearchCursor.decode(result.getNextCursor());
+        assertEquals(0.6f, cursor.rank());
+        assertEquals(hits.get(0).account().getId(), cursor.id());
+
+        accountService.searchAccounts("agu C3", result.getNextCursor(), 1);
+        verify(accountJdbcRepository).search(eq("agu:* & C3:*"), eq(0.6f), eq(cursor.id()), eq(2));
+        assertThrows(RuntimeException.class, () -> accountService.searchAccounts(" & :* ", null, 1));
+    }
+
     @Test
     void testGetAccountById() {
         UUID id = UUID.randomUUID();
@@ -113,31 +163,79 @@ class AccountServiceTest {
                 .status(AccountStatus.PAID)
                 .build();
 
-        when(accountRepository.existsById(id)).thenReturn(true);
-
         AccountEntity accountEntity = new AccountEntity();
         accountEntity.setId(id);
         accountEntity.setDueDate(requestDTO.getDueDate());
         accountEntity.setValue(requestDTO.getValue());
         accountEntity.setDescription(requestDTO.getDescription());
         accountEntity.setStatus(requestDTO.getStatus());
+        accountEntity.setVersion(1L);
 
-        when(accountRepository.save(any(AccountEntity.class))).thenReturn(accountEntity);
+        when(accountJdbcRepository.update(id, requestDTO)).thenReturn(Optional.of(accountEntity));
 
         AccountResponseDTO result = accountService.updateAccount(id, requestDTO);
         assertEquals("Conta de eletricidade atualizada", result.getDescription());
+        assertEquals(1L, result.getVersion());
 
-        verify(accountRepository, times(1)).save(any(AccountEntity.class));
+        verify(accountJdbcRepository, never()).findStatuses(anyList());
+    }
+
+    @Test
+    void testUpdateAccountWithStaleVersion() {
+        UUID id = UUID.randomUUID();
+        AccountRequestDTO requestDTO = AccountRequestDTO.builder()
+                .dueDate(LocalDate.of(2024, 11, 1))
+                .value(new BigDecimal("500.00"))
+                .description("Conta de eletricidade atualizada")
+                .status(AccountStatus.PENDING)
+                .version(3L)
+                .build();
+
+        when(accountJdbcRepository.update(id, requestDTO)).thenReturn(Optional.empty());
+        when(accountJdbcRepository.findStatuses(List.of(id))).thenReturn(Map.of(id, AccountStatus.OVERDUE));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> accountService.updateAccount(id, requestDTO));
+    }
+
+    @Test
+    void testUpdateAccountCannotReopenAPaidAccountAsOverdue() {
+        UUID id = UUID.randomUUID();
+        AccountRequestDTO requestDTO = AccountRequestDTO.builder()
+                .dueDate(LocalDate.of(2024, 11, 1))
+                .value(new BigDecimal("500.00"))
+                .description("Conta de eletricidade atualizada")
+                .status(AccountStatus.OVERDUE)
+                .build();
+
+        when(accountJdbcRepository.update(id, requestDTO)).thenReturn(Optional.empty());
+        when(accountJdbcRepository.findStatuses(List.of(id))).thenReturn(Map.of(id, AccountStatus.PAID));
+
+        AccountStatusConflictException exception = assertThrows(AccountStatusConflictException.class,
+                () -> accountService.updateAccount(id, requestDTO));
+        assertEquals("Account is PAID and cannot change to OVERDUE", exception.getMessage());
+
+        when(accountJdbcRepository.findStatuses(List.of(id))).thenReturn(Map.of());
+        assertEquals("Account not found",
+                assertThrows(RuntimeException.class, () -> accountService.updateAccount(id, requestDTO)).getMessage());
     }
 
     @Test
     void testDeleteAccount() {
         UUID id = UUID.randomUUID();
-        when(accountRepository.existsById(id)).thenReturn(true);
+        when(accountRepository.deleteAccountById(id)).thenReturn(1);
 
         accountService.deleteAccount(id);
 
-        verify(accountRepository, times(1)).deleteById(id);
+        verify(accountRepository, times(1)).deleteAccountById(id);
+    }
+
+    @Test
+    void testDeleteMissingAccount() {
+        UUID id = UUID.randomUUID();
+        when(accountRepository.deleteAccountById(id)).thenReturn(0);
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> accountService.deleteAccount(id));
+        assertEquals("Account not found", exception.getMessage());
     }
 
     @Test
@@ -145,42 +243,63 @@ class AccountServiceTest {
         UUID id = UUID.randomUUID();
         AccountEntity accountEntity = new AccountEntity();
         accountEntity.setId(id);
-        accountEntity.setStatus(AccountStatus.PENDING);
+        accountEntity.setStatus(AccountStatus.PAID);
+        accountEntity.setPaymentDate(LocalDate.of(2024, 11, 5));
+        ArgumentCaptor<LocalDate> paymentDate = ArgumentCaptor.forClass(LocalDate.class);
 
-        when(accountRepository.findById(id)).thenReturn(Optional.of(accountEntity));
-        when(accountRepository.save(accountEntity)).thenReturn(accountEntity);
+        when(accountJdbcRepository.updateStatus(eq(id), eq(AccountStatus.PAID), any(LocalDate.class)))
+                .thenReturn(Optional.of(accountEntity));
 
+        LocalDate before = LocalDate.now();
         AccountResponseDTO result = accountService.updateAccountStatus(id, AccountStatus.PAID);
+        LocalDate after = LocalDate.now();
         assertEquals(AccountStatus.PAID, result.getStatus());
+        assertEquals(LocalDate.of(2024, 11, 5), result.getPaymentDate());
 
-        verify(accountRepository, times(1)).save(accountEntity);
+        verify(accountJdbcRepository, times(1)).updateStatus(eq(id), eq(AccountStatus.PAID), paymentDate.capture());
+        assertFalse(paymentDate.getValue().isBefore(before));
+        assertFalse(paymentDate.getValue().isAfter(after));
+        verify(accountRepository, never()).findById(id);
     }
 
     @Test
-    void testImportAccountsFromCsv() {
-        MultipartFile file = mock(MultipartFile.class);
-
-        AccountRequestDTO accountRequestDTO = AccountRequestDTO.builder()
-                .dueDate(LocalDate.of(2024, 11, 1))
-                .value(new BigDecimal("500.00"))
-                .description("Conta de eletricidade")
-                .status(AccountStatus.PENDING)
-                .build();
+    void testUpdateAccountStatusReportsConflictingStatus() {
+        UUID id = UUID.randomUUID();
+        AccountEntity accountEntity = new AccountEntity();
+        accountEntity.setId(id);
+        accountEntity.setStatus(AccountStatus.PAID);
+        accountEntity.setPaymentDate(LocalDate.of(2024, 11, 5));
 
-        when(csvAccountImporter.importFromCsv(file)).thenReturn(List.of(accountRequestDTO));
+        when(accountJdbcRepository.updateStatus(eq(id), any(AccountStatus.class), any(LocalDate.class))).thenReturn(Optional.empty());
+        when(accountRepository.findById(id)).thenReturn(Optional.of(accountEntity));
 
-        AccountEntity accountEntity = new AccountEntity();
-        accountEntity.setId(UUID.randomUUID());
-        accountEntity.setDueDate(accountRequestDTO.getDueDate());
-        accountEntity.setValue(accountRequestDTO.getValue());
-        accountEntity.setDescription(accountRequestDTO.getDescription());
-        accountEntity.setStatus(accountRequestDTO.getStatus());
+        AccountStatusConflictException exception = assertThrows(AccountStatusConflictException.class,
+                () -> accountService.updateAccountStatus(id, AccountStatus.OVERDUE));
+        assertEquals("Account is PAID and cannot change to OVERDUE", exception.getMessage());
 
-        when(accountRepository.save(any(AccountEntity.class))).thenReturn(accountEntity);
+        AccountResponseDTO unchanged = accountService.updateAccountStatus(id, AccountStatus.PAID);
+        assertEquals(LocalDate.of(2024, 11, 5), unchanged.getPaymentDate());
+    }
 
-        accountService.importAccountsFromCsv(file);
+    @Test
+    void testUpdateAccountStatusOfAMissingAccount() {
+        UUID id = UUID.randomUUID();
+        when(accountJdbcRepository.updateStatus(eq(id), eq(AccountStatus.PAID), any(LocalDate.class))).thenReturn(Optional.empty());
+        when(accountRepository.findById(id)).thenReturn(Optional.empty());
 
-        verify(accountRepository, times(1)).save(any(AccountEntity.class));
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> accountService.updateAccountStatus(id, AccountStatus.PAID));
+        assertFalse(exception instanceof AccountStatusConflictException);
+        assertEquals("Account not found", exception.getMessage());
     }
 
+    private AccountEntity account(LocalDate dueDate, String description) {
+        AccountEntity accountEntity = new AccountEntity();
+        accountEntity.setId(UUID.randomUUID());
+        accountEntity.setDueDate(dueDate);
+        accountEntity.setValue(new BigDecimal("500.00"));
+        accountEntity.setDescription(description);
+        accountEntity.setStatus(AccountStatus.PENDING);
+        return accountEntity;
+    }
 }
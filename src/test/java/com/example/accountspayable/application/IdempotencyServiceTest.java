@@ -0,0 +1,144 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.PostgresTestDatabase;
+import com.example.accountspayable.infrastructure.persistence.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyServiceTest {
+
+    private static final String SCOPE = "test";
+    private static final TypeReference<List<String>> TYPE = new TypeReference<>() {
+    };
+
+    private PostgresTestDatabase database;
+    private IdempotencyService idempotencyService;
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = PostgresTestDatabase.create();
+        idempotencyService = new IdempotencyService(new IdempotencyKeyRepository(new JdbcTemplate(database.dataSource())),
+                new ObjectMapper(), new DataSourceTransactionManager(database.dataSource()));
+        ReflectionTestUtils.setField(idempotencyService, "ttl", Duration.ofDays(1));
+        ReflectionTestUtils.setField(idempotencyService, "inProgressTimeout", Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    void repeatedKeyReplaysTheStoredResponse() {
+        IdempotentResult<List<String>> first = idempotencyService.execute(SCOPE, "key-1", "request", TYPE, this::run);
+        IdempotentResult<List<String>> second = idempotencyService.execute(SCOPE, "key-1", "request", TYPE, this::run);
+
+        assertFalse(first.replayed());
+        assertTrue(second.replayed());
+        assertEquals(List.of("run 1"), second.value());
+        assertEquals(1, runs.get());
+
+        idempotencyService.execute(SCOPE, "key-2", "request", TYPE, this::run);
+        idempotencyService.execute(SCOPE, null, "request", TYPE, this::run);
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    void keyReusedForAnotherRequestIsRejected() {
+        idempotencyService.execute(SCOPE, "key", "request", TYPE, this::run);
+
+        assertThrows(IdempotencyKeyMismatchException.class,
+                () -> idempotencyService.execute(SCOPE, "key", "other request", TYPE, this::run));
+    }
+
+    @Test
+    void failedRequestReleasesItsKey() {
+        assertThrows(RuntimeException.class, () -> idempotencyService.execute(SCOPE, "key", "request", TYPE, () -> {
+            throw new RuntimeException("Account not found");
+        }));
+        assertThrows(RuntimeException.class, () -> idempotencyService.executeInSteps(SCOPE, "bulk", "request", TYPE, () -> {
+            throw new RuntimeException("Bulk requests are limited to 10000 items");
+        }));
+
+        assertFalse(idempotencyService.execute(SCOPE, "key", "request", TYPE, this::run).replayed());
+        assertFalse(idempotencyService.executeInSteps(SCOPE, "bulk", "request", TYPE, this::run).replayed());
+    }
+
+    @Test
+    void concurrentRequestWaitsForTheFirstAndReplaysIt() throws Exception {
+        CountDownLatch firstRunning = new CountDownLatch(1);
+        CountDownLatch finishFirst = new CountDownLatch(1);
+        CompletableFuture<IdempotentResult<List<String>>> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(SCOPE, "key", "request", TYPE, () -> {
+                    firstRunning.countDown();
+                    await(finishFirst);
+                    return run();
+                }));
+        assertTrue(firstRunning.await(10, TimeUnit.SECONDS));
+
+        CompletableFuture<IdempotentResult<List<String>>> second = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(SCOPE, "key", "request", TYPE, this::run));
+        Thread.sleep(200);
+        assertFalse(second.isDone());
+
+        finishFirst.countDown();
+        assertFalse(first.get(10, TimeUnit.SECONDS).replayed());
+        assertTrue(second.get(10, TimeUnit.SECONDS).replayed());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void requestInStepsBlocksTheKeyUntilItCompletes() {
+        IdempotentResult<List<String>> result = idempotencyService.executeInSteps(SCOPE, "bulk", "request", TYPE, () -> {
+            assertThrows(ConcurrencyFailureException.class,
+                    () -> idempotencyService.executeInSteps(SCOPE, "bulk", "request", TYPE, this::run));
+            return run();
+        });
+
+        assertEquals(List.of("run 1"), result.value());
+        assertTrue(idempotencyService.executeInSteps(SCOPE, "bulk", "request", TYPE, this::run).replayed());
+    }
+
+    @Test
+    void expiredKeyRunsAgain() {
+        ReflectionTestUtils.setField(idempotencyService, "ttl", Duration.ofSeconds(-1));
+        idempotencyService.execute(SCOPE, "key", "request", TYPE, this::run);
+
+        assertFalse(idempotencyService.execute(SCOPE, "key", "other request", TYPE, this::run).replayed());
+        assertEquals(2, runs.get());
+    }
+
+    private List<String> run() {
+        return List.of("run " + runs.incrementAndGet());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
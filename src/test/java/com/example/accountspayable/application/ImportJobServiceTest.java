@@ -0,0 +1,128 @@
+package com.example.accountspayable.application;
+
+import com.example.accountspayable.application.dto.ImportBatchDTO;
+import com.example.accountspayable.application.dto.ImportJobStatusDTO;
+import com.example.accountspayable.application.dto.ImportResultDTO;
+import com.example.accountspayable.domain.enums.ImportEngine;
+import com.example.accountspayable.domain.enums.ImportJobState;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportJobServiceTest {
+
+    private static final byte[] CSV =
+            "dueDate,paymentDate,value,description,status\n2024-11-01,,500.00,Conta de eletricidade,PENDING\n".getBytes();
+
+    @Mock
+    private AccountImportService accountImportService;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @InjectMocks
+    private ImportJobService importJobService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(importJobService, "executor", new SyncTaskExecutor());
+        ReflectionTestUtils.setField(importJobService, "retention", Duration.ofHours(1));
+        ReflectionTestUtils.setField(importJobService, "maxParallelism", 4);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSubmitRunsImportAndTracksProgress() {
+        when(idempotencyService.execute(anyString(), any(), any(), any(TypeReference.class), any(Supplier.class)))
+                .thenAnswer(invocation -> new IdempotentResult<>(invocation.<Supplier<?>>getArgument(4).get(), false));
+
+        MockMultipartFile file = new MockMultipartFile("file", "accounts.csv", "text/csv", CSV);
+
+        when(accountImportService.importAccountsFromCsv(any(InputStream.class), any(ImportEngine.class), any(Consumer.class))).thenAnswer(invocation -> {
+            Consumer<ImportBatchDTO> listener = invocation.getArgument(2);
+            listener.accept(ImportBatchDTO.builder().batchNumber(1).rowsParsed(1).rowsInserted(1).build());
+            return ImportResultDTO.builder()
+                    .rowsParsed(1)
+                    .rowsInserted(1)
+                    .batches(1)
+                    .errors(List.of())
+                    .build();
+        });
+
+        IdempotentResult<ImportJobStatusDTO> submitted = importJobService.submit(file, 1, ImportEngine.BATCH, "import-1");
+        ImportJobStatusDTO status = importJobService.getJob(submitted.value().getJobId()).orElseThrow();
+
+        assertEquals(ImportJobState.COMPLETED, status.getState());
+        assertEquals(1, status.getRowsInserted());
+        assertEquals(0L, status.getEtaSeconds());
+        assertTrue(importJobService.getJob(UUID.randomUUID()).isEmpty());
+        assertFalse(submitted.replayed());
+        assertEquals(IdempotencyService.sha256(CSV), status.getContentSha256());
+        verify(idempotencyService).update(eq("accounts.import.content"), eq(status.getContentSha256()), any(ImportJobStatusDTO.class));
+        verify(idempotencyService).update(eq("accounts.import"), eq("import-1"), any(ImportJobStatusDTO.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailedImportForgetsItsContentHashAndIdempotencyKey() {
+        when(idempotencyService.execute(anyString(), any(), any(), any(TypeReference.class), any(Supplier.class)))
+                .thenAnswer(invocation -> new IdempotentResult<>(invocation.<Supplier<?>>getArgument(4).get(), false));
+        when(accountImportService.importAccountsFromCsv(any(InputStream.class), any(ImportEngine.class), any(Consumer.class)))
+                .thenThrow(new RuntimeException("connection lost"));
+        MockMultipartFile file = new MockMultipartFile("file", "accounts.csv", "text/csv", CSV);
+
+        IdempotentResult<ImportJobStatusDTO> submitted = importJobService.submit(file, 1, ImportEngine.BATCH, "import-1");
+
+        assertEquals(ImportJobState.FAILED, importJobService.getJob(submitted.value().getJobId()).orElseThrow().getState());
+        verify(idempotencyService).release("accounts.import.content", IdempotencyService.sha256(CSV));
+        verify(idempotencyService).release("accounts.import", "import-1");
+        verify(idempotencyService, never()).update(anyString(), anyString(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSubmitOfAlreadyImportedContentReturnsEarlierJob() {
+        MockMultipartFile file = new MockMultipartFile("file", "accounts.csv", "text/csv", CSV);
+        ImportJobStatusDTO earlier = ImportJobStatusDTO.builder()
+                .jobId(UUID.randomUUID())
+                .state(ImportJobState.COMPLETED)
+                .rowsInserted(1)
+                .build();
+        when(idempotencyService.execute(anyString(), any(), any(), any(TypeReference.class), any(Supplier.class)))
+                .thenAnswer(invocation -> "accounts.import.content".equals(invocation.getArgument(0))
+                        ? new IdempotentResult<>(earlier, true)
+                        : new IdempotentResult<>(invocation.<Supplier<?>>getArgument(4).get(), false));
+
+        IdempotentResult<ImportJobStatusDTO> submitted = importJobService.submit(file, 1, ImportEngine.BATCH, null);
+
+        assertTrue(submitted.replayed());
+        assertEquals(earlier, submitted.value());
+        verifyNoInteractions(accountImportService);
+    }
+}
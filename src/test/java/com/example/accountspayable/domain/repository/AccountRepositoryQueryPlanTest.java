@@ -0,0 +1,110 @@
+package com.example.accountspayable.domain.repository;
+
+import com.example.accountspayable.PostgresTestDatabase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs EXPLAIN for the SQL behind each AccountRepository filter on a seeded table large enough for the planner
+ * to prefer an index whenever a usable one exists. Since V8 most of the seed lands in the default partition; the
+ * monthly partitions next to it stay small enough that a sequential scan is the right plan for them, so only
+ * sequential scans over partitions of more than {@link #SMALL_PARTITION_ROWS} rows fail the check.
+ */
+class AccountRepositoryQueryPlanTest {
+
+    private static final int ROWS = 200_000;
+    private static final int SMALL_PARTITION_ROWS = 10_000;
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+    private static PostgresTestDatabase database;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void seed() throws Exception {
+        database = PostgresTestDatabase.create();
+        jdbcTemplate = new JdbcTemplate(database.dataSource());
+        jdbcTemplate.update("""
+                INSERT INTO accounts (id, due_date, payment_date, value, description, status)
+                SELECT gen_random_uuid(),
+                       DATE '2020-01-01' + (i % 1800),
+                       CASE WHEN i % 3 = 0 THEN DATE '2020-01-01' + (i % 1800) END,
+                       (i % 100000) / 100.0,
+                       'Fornecedor ' || i,
+                       CASE i % 3 WHEN 0 THEN 'PAID' WHEN 1 THEN 'PENDING' ELSE 'OVERDUE' END
+                FROM generate_series(1, ?) AS i
+                """, ROWS);
+        jdbcTemplate.execute("ANALYZE accounts");
+        jdbcTemplate.execute("ANALYZE paid_daily_totals");
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    void findByDueDateUsesIndex() {
+        assertNoSeqScan("SELECT * FROM accounts WHERE due_date = ? LIMIT 20", LocalDate.of(2022, 3, 1));
+        assertNoSeqScan("SELECT count(*) FROM accounts WHERE due_date = ?", LocalDate.of(2022, 3, 1));
+    }
+
+    @Test
+    void findByDueDateAndDescriptionUsesIndex() {
+        assertNoSeqScan("SELECT * FROM accounts WHERE due_date = ? AND description = ? LIMIT 20",
+                LocalDate.of(2022, 3, 1), "Fornecedor 1234");
+    }
+
+    @Test
+    void findByDescriptionContainingUsesIndex() {
+        assertNoSeqScan("SELECT * FROM accounts WHERE description LIKE ? LIMIT 20", "%dor 123456%");
+        assertNoSeqScan("SELECT count(*) FROM accounts WHERE description LIKE ?", "%dor 123456%");
+    }
+
+    @Test
+    void findTotalPaidBetweenDatesUsesIndex() {
+        assertNoSeqScan("SELECT SUM(total_value) FROM paid_daily_totals WHERE payment_date BETWEEN ? AND ?",
+                LocalDate.of(2022, 3, 1), LocalDate.of(2022, 3, 31));
+    }
+
+    @Test
+    void markOverdueUsesIndex() {
+        assertNoSeqScan("SELECT id FROM accounts WHERE status = 'PENDING' AND due_date < ? LIMIT 5000 FOR UPDATE SKIP LOCKED",
+                LocalDate.of(2020, 2, 1));
+    }
+
+    @Test
+    void scrollAccountsUsesIndex() {
+        assertNoSeqScan("SELECT * FROM accounts ORDER BY due_date, id LIMIT 21");
+        assertNoSeqScan("SELECT * FROM accounts WHERE due_date >= ? AND (due_date > ? OR id > ?) ORDER BY due_date, id LIMIT 21",
+                LocalDate.of(2023, 6, 1), LocalDate.of(2023, 6, 1), UUID.randomUUID());
+    }
+
+    @Test
+    void searchAccountsUsesIndex() {
+        assertNoSeqScan("SELECT * FROM (SELECT a.*, ts_rank(a.description_tsv, query) AS rank"
+                + " FROM accounts a, to_tsquery('public.portuguese_unaccent', ?) query WHERE a.description_tsv @@ query) hits"
+                + " ORDER BY rank DESC, id LIMIT 21", "forn:* & 12345:*");
+    }
+
+    private void assertNoSeqScan(String sql, Object... args) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args);
+        String text = String.join("\n", plan);
+        Matcher seqScan = SEQ_SCAN.matcher(text);
+        while (seqScan.find()) {
+            Long rows = jdbcTemplate.queryForObject("SELECT count(*) FROM " + seqScan.group(1), Long.class);
+            assertFalse(rows > SMALL_PARTITION_ROWS, () -> "Sequential scan for " + sql + "\n" + text);
+        }
+    }
+}
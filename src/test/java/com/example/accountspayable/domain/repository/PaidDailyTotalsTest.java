@@ -0,0 +1,98 @@
+package com.example.accountspayable.domain.repository;
+
+import com.example.accountspayable.PostgresTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the trigger-maintained {@code paid_daily_totals} rollup matches a SUM over {@code accounts}
+ * after every kind of write.
+ */
+class PaidDailyTotalsTest {
+
+    private static final String RAW_TOTALS = """
+            SELECT payment_date, SUM(value) AS total, COUNT(*) AS paid
+            FROM accounts
+            WHERE status = 'PAID' AND payment_date IS NOT NULL
+            GROUP BY payment_date
+            ORDER BY payment_date
+            """;
+
+    private static final String ROLLUP_TOTALS = """
+            SELECT payment_date, total_value AS total, paid_count AS paid
+            FROM paid_daily_totals
+            WHERE paid_count <> 0
+            ORDER BY payment_date
+            """;
+
+    private PostgresTestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = PostgresTestDatabase.create();
+        jdbcTemplate = new JdbcTemplate(database.dataSource());
+        jdbcTemplate.update("""
+                INSERT INTO accounts (id, due_date, payment_date, value, description, status)
+                SELECT gen_random_uuid(),
+                       DATE '2024-01-01' + (i % 60),
+                       CASE WHEN i % 2 = 0 THEN DATE '2024-01-01' + (i % 45) END,
+                       i + 0.25,
+                       'Fornecedor ' || i,
+                       CASE WHEN i % 2 = 0 THEN 'PAID' ELSE 'PENDING' END
+                FROM generate_series(1, 1000) AS i
+                """);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    void rollupMatchesAfterInsert() {
+        assertRollupConsistent();
+    }
+
+    @Test
+    void rollupMatchesAfterStatusChanges() {
+        jdbcTemplate.update("UPDATE accounts SET status = 'PAID', payment_date = DATE '2024-03-01' WHERE status = 'PENDING' AND value < 300");
+        jdbcTemplate.update("UPDATE accounts SET status = 'PENDING', payment_date = NULL WHERE status = 'PAID' AND value > 900");
+        jdbcTemplate.update("UPDATE accounts SET status = 'OVERDUE' WHERE status = 'PENDING'");
+        assertRollupConsistent();
+    }
+
+    @Test
+    void rollupMatchesAfterValueAndDateChanges() {
+        jdbcTemplate.update("UPDATE accounts SET value = value * 2 WHERE status = 'PAID' AND value < 500");
+        jdbcTemplate.update("UPDATE accounts SET payment_date = payment_date + 7 WHERE status = 'PAID' AND value > 700");
+        assertRollupConsistent();
+    }
+
+    @Test
+    void rollupMatchesAfterDelete() {
+        jdbcTemplate.update("DELETE FROM accounts WHERE value BETWEEN 100 AND 400");
+        assertRollupConsistent();
+    }
+
+    private void assertRollupConsistent() {
+        List<Map<String, Object>> expected = jdbcTemplate.queryForList(RAW_TOTALS);
+        List<Map<String, Object>> actual = jdbcTemplate.queryForList(ROLLUP_TOTALS);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).get("payment_date"), actual.get(i).get("payment_date"));
+            assertEquals(0, ((BigDecimal) expected.get(i).get("total")).compareTo((BigDecimal) actual.get(i).get("total")));
+            assertEquals(((Number) expected.get(i).get("paid")).longValue(), ((Number) actual.get(i).get("paid")).longValue());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.accountspayable.infrastructure.config;
+
+import com.example.accountspayable.infrastructure.persistence.AccountPartitionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountPartitionSchedulerTest {
+
+    @Mock
+    private AccountPartitionRepository accountPartitionRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.ACCOUNTS_CACHE, CacheConfig.TOTAL_PAID_CACHE);
+
+    private AccountPartitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new AccountPartitionScheduler(accountPartitionRepository, meterRegistry, cacheManager);
+        ReflectionTestUtils.setField(scheduler, "monthsAhead", 3);
+    }
+
+    @Test
+    void testMaintainPartitionsCreatesFutureMonthsWithoutArchiving() {
+        LocalDate today = LocalDate.now();
+        when(accountPartitionRepository.createPartitions(today, today.plusMonths(3))).thenReturn(1);
+        when(accountPartitionRepository.splitDefaultPartition()).thenReturn(2);
+
+        scheduler.maintainPartitions();
+
+        assertEquals(3, meterRegistry.counter("accounts.partitions.created").count());
+        verify(accountPartitionRepository, never()).archivePartitionsBefore(any(LocalDate.class));
+    }
+
+    @Test
+    void testMaintainPartitionsArchivesOldMonthsAndClearsCaches() {
+        ReflectionTestUtils.setField(scheduler, "archiveAfterMonths", 24);
+        cacheManager.getCache(CacheConfig.TOTAL_PAID_CACHE).put("range", "100.00");
+        when(accountPartitionRepository.archivePartitionsBefore(LocalDate.now().minusMonths(24))).thenReturn(2);
+
+        scheduler.maintainPartitions();
+
+        assertEquals(2, meterRegistry.counter("accounts.partitions.archived").count());
+        assertNull(cacheManager.getCache(CacheConfig.TOTAL_PAID_CACHE).get("range"));
+    }
+}
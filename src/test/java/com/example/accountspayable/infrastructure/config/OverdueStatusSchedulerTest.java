@@ -0,0 +1,49 @@
+package com.example.accountspayable.infrastructure.config;
+
+import com.example.accountspayable.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueStatusSchedulerTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OverdueStatusScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new OverdueStatusScheduler(accountRepository, meterRegistry, new ConcurrentMapCacheManager(CacheConfig.ACCOUNTS_CACHE));
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 100);
+    }
+
+    @Test
+    void testUpdateOverdueAccountsRunsChunksUntilExhausted() {
+        when(accountRepository.markOverdue(any(LocalDate.class), eq(100))).thenReturn(100, 100, 7);
+
+        scheduler.updateOverdueAccounts();
+
+        verify(accountRepository, times(3)).markOverdue(LocalDate.now(), 100);
+        assertEquals(207, meterRegistry.counter("accounts.overdue.transitioned").count());
+        assertEquals(1, meterRegistry.timer("accounts.overdue.duration").count());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.accountspayable.infrastructure.events;
+
+import com.example.accountspayable.application.dto.AccountEventDTO;
+import com.example.accountspayable.domain.enums.AccountEventType;
+import com.example.accountspayable.infrastructure.persistence.AccountEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountEventRelayTest {
+
+    @Mock
+    private AccountEventRepository accountEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        when(accountEventRepository.tryLockRelay()).thenReturn(true);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void numbersInBatchesThenPublishesAndMarks() {
+        InMemoryAccountEventSink sink = new InMemoryAccountEventSink();
+        ReflectionTestUtils.setField(sink, "capacity", 10);
+        AccountEventRelay relay = relay(sink);
+        when(accountEventRepository.assignSequences(2)).thenReturn(2, 1);
+        when(accountEventRepository.findUnpublished(2)).thenReturn(List.of(event(7), event(8)), List.of(event(9)));
+
+        relay.relay();
+
+        assertEquals(3, meterRegistry.counter("accounts.events.sequenced").count());
+        assertEquals(3, meterRegistry.counter("accounts.events.published").count());
+        assertEquals(List.of(7L, 8L, 9L), sink.events().stream().map(AccountEventDTO::getSequence).toList());
+        verify(accountEventRepository).markPublished(7, 8);
+        verify(accountEventRepository).markPublished(9, 9);
+    }
+
+    @Test
+    void failingSinkLeavesEventsUnpublished() throws Exception {
+        AccountEventSink sink = mock(AccountEventSink.class);
+        AccountEventRelay relay = relay(sink);
+        List<AccountEventDTO> events = List.of(event(1));
+        when(accountEventRepository.findUnpublished(2)).thenReturn(events);
+        doThrow(new IllegalStateException("broker down")).when(sink).publish(events);
+
+        relay.relay();
+
+        verify(accountEventRepository, never()).markPublished(anyLong(), anyLong());
+        assertEquals(1, meterRegistry.counter("accounts.events.publish.failures").count());
+    }
+
+    private AccountEventRelay relay(AccountEventSink sink) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("sink", sink);
+        ObjectProvider<AccountEventSink> provider = beans.getBeanProvider(AccountEventSink.class);
+        AccountEventRelay relay = new AccountEventRelay(accountEventRepository, provider, meterRegistry, transactionManager);
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        return relay;
+    }
+
+    private static AccountEventDTO event(long sequence) {
+        return AccountEventDTO.builder()
+                .sequence(sequence)
+                .accountId(UUID.randomUUID())
+                .type(AccountEventType.CREATED)
+                .build();
+    }
+}
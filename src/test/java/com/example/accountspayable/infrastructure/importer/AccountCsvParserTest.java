@@ -0,0 +1,139 @@
+package com.example.accountspayable.infrastructure.importer;
+
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountCsvParserTest {
+
+    private static final String HEADER = "dueDate,paymentDate,value,description,status\n";
+
+    @Test
+    void parsesPlainRows() throws IOException {
+        Result result = parse(HEADER
+                + "2024-11-01,,500.00,Conta de eletricidade,PENDING\n"
+                + "2024-11-10, 2024-11-08 , -12.5 , Conta de água ,paid\n", AccountCsvParser.DEFAULT_BUFFER_SIZE);
+
+        assertEquals(List.of(2L, 3L), result.lines);
+        AccountRequestDTO first = result.accounts.get(0);
+        assertEquals(LocalDate.of(2024, 11, 1), first.getDueDate());
+        assertNull(first.getPaymentDate());
+        assertEquals(new BigDecimal("500.00"), first.getValue());
+        assertEquals(AccountStatus.PENDING, first.getStatus());
+
+        AccountRequestDTO second = result.accounts.get(1);
+        assertEquals(LocalDate.of(2024, 11, 8), second.getPaymentDate());
+        assertEquals(new BigDecimal("-12.5"), second.getValue());
+        assertEquals("Conta de água", second.getDescription());
+        assertEquals(AccountStatus.PAID, second.getStatus());
+    }
+
+    @Test
+    void parsesQuotedFieldsAcrossBufferRefills() throws IOException {
+        String csv = "\uFEFF" + HEADER.replace("\n", "\r\n")
+                + "2024-11-01,,\"1,5\",\"Aluguel, sala \"\"A\"\"\",PENDING\r\n"
+                + "\r\n"
+                + "\"2024-11-02\",,10,\"Nota com\nduas linhas\",\"OVERDUE\"\r\n"
+                + "2024-11-03,,99999999999999999999.99,Fornecedor,PENDING";
+
+        for (int bufferSize : new int[]{4, 7, AccountCsvParser.DEFAULT_BUFFER_SIZE}) {
+            Result result = parse(csv, bufferSize);
+
+            assertEquals(List.of(2L), result.errorLines);
+            assertEquals(List.of(4L, 6L), result.lines);
+            assertEquals("Nota com\nduas linhas", result.accounts.get(0).getDescription());
+            assertEquals(AccountStatus.OVERDUE, result.accounts.get(0).getStatus());
+            assertEquals(new BigDecimal("99999999999999999999.99"), result.accounts.get(1).getValue());
+        }
+    }
+
+    @Test
+    void unescapesDoubledQuotes() throws IOException {
+        Result result = parse(HEADER + "2024-11-01,,1,\"Aluguel, sala \"\"A\"\"\",PENDING\n", 8);
+
+        assertEquals("Aluguel, sala \"A\"", result.accounts.get(0).getDescription());
+    }
+
+    @Test
+    void reportsMalformedRowsAndContinues() throws IOException {
+        Result result = parse(HEADER
+                + "2024-13-01,,1,Mês inválido,PENDING\n"
+                + "2024-11-01,,abc,Valor inválido,PENDING\n"
+                + "2024-11-01,,1,Status inválido,CANCELLED\n"
+                + "2024-11-01,,1, ,PENDING\n"
+                + "2024-11-01,,1\n"
+                + "2024-11-01,,\"1\"x,Aspas,PENDING\n"
+                + "2024-11-01,,1,Válida,PENDING\n", 16);
+
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L), result.errorLines);
+        assertEquals("Unknown status 'CANCELLED'", result.errors.get(2));
+        assertEquals("Description is required", result.errors.get(3));
+        assertEquals("Expected 5 columns but found 3", result.errors.get(4));
+        assertEquals("Unexpected character after quoted field", result.errors.get(5));
+        assertEquals(List.of(8L), result.lines);
+    }
+
+    @Test
+    void splitsIntoChunksThatParseLikeTheWholeFile() throws IOException {
+        StringBuilder csv = new StringBuilder("\uFEFF" + HEADER);
+        for (int i = 0; i < 200; i++) {
+            csv.append(i % 7 == 0 ? "2024-11-01,,10,\"Nota\nlonga " + i + "\",PENDING\r\n" : "2024-11-01,,10,Conta " + i + ",PAID\n");
+            if (i % 50 == 0) {
+                csv.append("2024-11-01,,x,Inválida,PENDING\n");
+            }
+        }
+        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+        Result whole = parse(csv.toString(), AccountCsvParser.DEFAULT_BUFFER_SIZE);
+
+        List<CsvChunk> chunks = new AccountCsvParser(new ByteArrayInputStream(bytes), 64).split(300);
+        Result chunked = new Result();
+        for (CsvChunk chunk : chunks) {
+            ByteArrayInputStream input = new ByteArrayInputStream(bytes, (int) chunk.offset(), (int) chunk.length());
+            new AccountCsvParser(input, 64).parse(chunked, chunk.firstLine());
+        }
+
+        assertTrue(chunks.size() > 5);
+        assertEquals(bytes.length, chunks.get(chunks.size() - 1).offset() + chunks.get(chunks.size() - 1).length());
+        assertEquals(whole.lines, chunked.lines);
+        assertEquals(whole.errorLines, chunked.errorLines);
+        assertEquals(whole.accounts, chunked.accounts);
+    }
+
+    private Result parse(String csv, int bufferSize) throws IOException {
+        Result result = new Result();
+        new AccountCsvParser(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), bufferSize).parse(result);
+        return result;
+    }
+
+    private static class Result implements CsvRowHandler {
+
+        private final List<AccountRequestDTO> accounts = new ArrayList<>();
+        private final List<Long> lines = new ArrayList<>();
+        private final List<Long> errorLines = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void onRow(long lineNumber, AccountRequestDTO account) {
+            accounts.add(account);
+            lines.add(lineNumber);
+        }
+
+        @Override
+        public void onError(long lineNumber, String message) {
+            errorLines.add(lineNumber);
+            errors.add(message);
+        }
+    }
+}
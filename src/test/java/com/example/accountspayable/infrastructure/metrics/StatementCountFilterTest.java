@@ -0,0 +1,36 @@
+package com.example.accountspayable.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StatementCountFilterTest {
+
+    private final StatementCounter statementCounter = new StatementCounter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatementCountFilter filter = new StatementCountFilter(statementCounter, meterRegistry);
+
+    @Test
+    void recordsStatementsPerRequestByUriPattern() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts/8a6b4c7e-12d3-40a6-9c8a-000000000001");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/accounts/{id}");
+            statementCounter.inspect("select 1");
+            statementCounter.inspect("select 2");
+        });
+
+        DistributionSummary summary = meterRegistry.get("http.server.requests.statements")
+                .tags("method", "GET", "uri", "/api/accounts/{id}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.max());
+        statementCounter.inspect("select 3");
+        assertEquals(0, statementCounter.stop());
+    }
+}
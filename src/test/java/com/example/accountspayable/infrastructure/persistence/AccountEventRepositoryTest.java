@@ -0,0 +1,129 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import com.example.accountspayable.PostgresTestDatabase;
+import com.example.accountspayable.application.dto.AccountEventDTO;
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.domain.enums.AccountEventType;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountEventRepositoryTest {
+
+    private PostgresTestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private AccountJdbcRepository accountJdbcRepository;
+    private AccountEventRepository accountEventRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = PostgresTestDatabase.create();
+        jdbcTemplate = new JdbcTemplate(database.dataSource());
+        accountJdbcRepository = new AccountJdbcRepository(jdbcTemplate);
+        accountEventRepository = new AccountEventRepository(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database.dataSource()));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    void everyWritePathRecordsOneEventPerRow() {
+        UUID id = UUID.randomUUID();
+        accountJdbcRepository.insertAll(List.of(id), List.of(request("Conta de luz")));
+        transactionTemplate.executeWithoutResult(status -> accountJdbcRepository.copyAll(List.of(request("Conta de gás"))));
+        accountJdbcRepository.update(id, request("Conta de luz, março"));
+        accountJdbcRepository.updateStatus(id, AccountStatus.PAID, LocalDate.of(2024, 11, 5));
+        jdbcTemplate.update("DELETE FROM accounts WHERE id = ?", id);
+
+        assertEquals(5, sequence());
+        List<AccountEventDTO> events = accountEventRepository.findSince(0, 10);
+
+        assertEquals(List.of(AccountEventType.CREATED, AccountEventType.CREATED, AccountEventType.UPDATED,
+                AccountEventType.STATUS_CHANGED, AccountEventType.DELETED), events.stream().map(AccountEventDTO::getType).toList());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), events.stream().map(AccountEventDTO::getSequence).toList());
+        AccountEventDTO paid = events.get(3);
+        assertEquals(id, paid.getAccountId());
+        assertEquals(AccountStatus.PAID, paid.getAccount().getStatus());
+        assertEquals(LocalDate.of(2024, 11, 5), paid.getAccount().getPaymentDate());
+        assertEquals(new BigDecimal("500.00"), paid.getAccount().getValue());
+        assertEquals(2L, paid.getAccount().getVersion());
+        assertEquals(List.of(5L), accountEventRepository.findSince(4, 10).stream().map(AccountEventDTO::getSequence).toList());
+    }
+
+    @Test
+    void eventsOfUncommittedTransactionsAreNumberedAfterTheyCommit() throws Exception {
+        try (Connection open = database.dataSource().getConnection()) {
+            open.setAutoCommit(false);
+            try (PreparedStatement insert = open.prepareStatement(
+                    "INSERT INTO accounts (due_date, value, description, status) VALUES ('2024-11-01', 1, 'Lenta', 'PENDING')")) {
+                insert.executeUpdate();
+            }
+            accountJdbcRepository.insertAll(List.of(request("Rápida")));
+
+            assertEquals(1, sequence());
+            assertEquals("Rápida", accountEventRepository.findSince(0, 10).get(0).getAccount().getDescription());
+
+            open.commit();
+        }
+
+        assertEquals(1, sequence());
+        List<AccountEventDTO> events = accountEventRepository.findSince(1, 10);
+        assertEquals("Lenta", events.get(0).getAccount().getDescription());
+        assertEquals(2L, events.get(0).getSequence());
+    }
+
+    @Test
+    void publishedEventsAreMarkedAndExpire() {
+        accountJdbcRepository.insertAll(List.of(request("Conta de luz"), request("Conta de água")));
+        sequence();
+
+        List<AccountEventDTO> unpublished = accountEventRepository.findUnpublished(1);
+        assertEquals(1, accountEventRepository.markPublished(unpublished.get(0).getSequence(), unpublished.get(0).getSequence()));
+        assertEquals(List.of(2L), accountEventRepository.findUnpublished(10).stream().map(AccountEventDTO::getSequence).toList());
+
+        Instant later = Instant.now().plusSeconds(60);
+        assertEquals(0, accountEventRepository.deleteBefore(Instant.now().minusSeconds(60), false));
+        assertEquals(0, accountEventRepository.findPrunedThrough());
+        assertEquals(1, accountEventRepository.deleteBefore(later, true));
+        assertEquals(1, accountEventRepository.findPrunedThrough());
+        assertEquals(1, accountEventRepository.deleteBefore(later, false));
+        assertEquals(2, accountEventRepository.findPrunedThrough());
+        assertTrue(accountEventRepository.findSince(0, 10).isEmpty());
+    }
+
+    private int sequence() {
+        Integer sequenced = transactionTemplate.execute(status ->
+                accountEventRepository.tryLockRelay() ? accountEventRepository.assignSequences(100) : -1);
+        return sequenced != null ? sequenced : 0;
+    }
+
+    private AccountRequestDTO request(String description) {
+        return AccountRequestDTO.builder()
+                .dueDate(LocalDate.of(2024, 11, 1))
+                .value(new BigDecimal("500.00"))
+                .description(description)
+                .status(AccountStatus.PENDING)
+                .build();
+    }
+}
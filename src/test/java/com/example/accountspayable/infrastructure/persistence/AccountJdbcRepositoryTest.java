@@ -0,0 +1,158 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import com.example.accountspayable.PostgresTestDatabase;
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.domain.entity.AccountEntity;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountJdbcRepositoryTest {
+
+    private PostgresTestDatabase database;
+    private AccountJdbcRepository accountJdbcRepository;
+    private UUID id;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = PostgresTestDatabase.create();
+        accountJdbcRepository = new AccountJdbcRepository(new JdbcTemplate(database.dataSource()));
+        id = UUID.randomUUID();
+        accountJdbcRepository.insertAll(List.of(id), List.of(request(AccountStatus.PENDING, null)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    void updateBumpsVersionAndReturnsWrittenRow() {
+        AccountEntity updated = accountJdbcRepository.update(id, request(AccountStatus.PAID, 0L)).orElseThrow();
+
+        assertEquals(1L, updated.getVersion());
+        assertEquals(AccountStatus.PAID, updated.getStatus());
+        assertEquals(0, new BigDecimal("500.00").compareTo(updated.getValue()));
+    }
+
+    @Test
+    void updateWithStaleVersionTouchesNothing() {
+        accountJdbcRepository.update(id, request(AccountStatus.PENDING, 0L)).orElseThrow();
+
+        assertTrue(accountJdbcRepository.update(id, request(AccountStatus.PAID, 0L)).isEmpty());
+        assertTrue(accountJdbcRepository.update(UUID.randomUUID(), request(AccountStatus.PAID, null)).isEmpty());
+        assertArrayEquals(new int[]{0}, accountJdbcRepository.updateAll(List.of(id), List.of(request(AccountStatus.PAID, 0L))));
+        assertArrayEquals(new int[]{1}, accountJdbcRepository.updateAll(List.of(id), List.of(request(AccountStatus.PAID, 1L))));
+    }
+
+    @Test
+    void statusAndBatchUpdatesBumpVersion() {
+        AccountEntity updated = accountJdbcRepository.updateStatus(id, AccountStatus.PAID, LocalDate.of(2024, 11, 5)).orElseThrow();
+
+        assertEquals(1L, updated.getVersion());
+        assertEquals(LocalDate.of(2024, 11, 5), updated.getPaymentDate());
+
+        accountJdbcRepository.updateAll(List.of(id), List.of(request(AccountStatus.PAID, null)));
+        assertEquals(3L, accountJdbcRepository.update(id, request(AccountStatus.PAID, 2L)).orElseThrow().getVersion());
+    }
+
+    @Test
+    void copyAllMergesStagedRowsIntoAccounts() {
+        AccountRequestDTO quoted = request(AccountStatus.PAID, null);
+        quoted.setDescription("Aluguel, sala \"A\"\nbloco 2");
+        quoted.setPaymentDate(LocalDate.of(2024, 11, 3));
+        List<AccountRequestDTO> accounts = List.of(quoted, request(AccountStatus.PENDING, null));
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(database.dataSource()));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database.dataSource());
+        int before = jdbcTemplate.queryForObject("SELECT count(*) FROM accounts", Integer.class);
+
+        assertEquals(Integer.valueOf(2), transaction.execute(status -> accountJdbcRepository.copyAll(accounts)));
+        assertEquals(Integer.valueOf(2), transaction.execute(status -> accountJdbcRepository.copyAll(accounts)));
+
+        assertEquals(before + 4, jdbcTemplate.queryForObject("SELECT count(*) FROM accounts", Integer.class));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT count(*) FROM accounts WHERE description = ? AND payment_date = ?",
+                Integer.class, quoted.getDescription(), quoted.getPaymentDate()));
+    }
+
+    @Test
+    void streamAccountsAppliesListingFiltersInDueDateOrder() {
+        AccountRequestDTO later = request(AccountStatus.PENDING, null);
+        later.setDueDate(LocalDate.of(2024, 12, 1));
+        later.setDescription("Fornecedor B");
+        AccountRequestDTO earlier = request(AccountStatus.PAID, null);
+        earlier.setDescription("Fornecedor A");
+        accountJdbcRepository.insertAll(List.of(later, earlier));
+
+        List<AccountEntity> matching = new ArrayList<>();
+        accountJdbcRepository.streamAccounts(null, "Fornecedor", 1, matching::add);
+        assertEquals(List.of("Fornecedor A", "Fornecedor B"), matching.stream().map(AccountEntity::getDescription).toList());
+
+        List<AccountEntity> exact = new ArrayList<>();
+        accountJdbcRepository.streamAccounts(LocalDate.of(2024, 12, 1), "Fornecedor B", 1, exact::add);
+        accountJdbcRepository.streamAccounts(LocalDate.of(2024, 12, 1), "Fornecedor", 1, exact::add);
+        assertEquals(1, exact.size());
+    }
+
+    @Test
+    void streamAccountsMatchesWildcardsLiterally() {
+        AccountRequestDTO percent = request(AccountStatus.PENDING, null);
+        percent.setDescription("Desconto 50% fornecedor_a");
+        AccountRequestDTO digits = request(AccountStatus.PENDING, null);
+        digits.setDescription("Desconto 500 fornecedorXa");
+        accountJdbcRepository.insertAll(List.of(percent, digits));
+
+        List<AccountEntity> matching = new ArrayList<>();
+        accountJdbcRepository.streamAccounts(null, "50%", 1, matching::add);
+        accountJdbcRepository.streamAccounts(null, "fornecedor_a", 1, matching::add);
+        assertEquals(List.of("Desconto 50% fornecedor_a", "Desconto 50% fornecedor_a"),
+                matching.stream().map(AccountEntity::getDescription).toList());
+    }
+
+    @Test
+    void searchIgnoresAccentsMatchesPrefixesAndPagesByRank() {
+        AccountRequestDTO water = request(AccountStatus.PENDING, null);
+        water.setDescription("Água Fornecedor");
+        AccountRequestDTO supplier = request(AccountStatus.PENDING, null);
+        supplier.setDescription("Fornecedor de material de escritório, fornecedor principal");
+        accountJdbcRepository.insertAll(List.of(water, supplier));
+
+        Set<String> accents = accountJdbcRepository.search("agua:*", null, null, 10).stream()
+                .map(hit -> hit.account().getDescription()).collect(Collectors.toSet());
+        assertEquals(Set.of("Conta de água", "Água Fornecedor"), accents);
+
+        List<AccountSearchHit> first = accountJdbcRepository.search("forn:*", null, null, 1);
+        assertEquals("Fornecedor de material de escritório, fornecedor principal", first.get(0).account().getDescription());
+        AccountSearchHit last = first.get(0);
+        List<AccountSearchHit> rest = accountJdbcRepository.search("forn:*", last.rank(), last.account().getId(), 10);
+        assertEquals(List.of("Água Fornecedor"), rest.stream().map(hit -> hit.account().getDescription()).toList());
+        assertTrue(rest.get(0).rank() < last.rank());
+    }
+
+    private AccountRequestDTO request(AccountStatus status, Long version) {
+        return AccountRequestDTO.builder()
+                .dueDate(LocalDate.of(2024, 11, 1))
+                .value(new BigDecimal("500.00"))
+                .description("Conta de eletricidade")
+                .status(status)
+                .version(version)
+                .build();
+    }
+}
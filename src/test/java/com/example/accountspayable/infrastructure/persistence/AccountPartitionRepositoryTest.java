@@ -0,0 +1,150 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import com.example.accountspayable.PostgresTestDatabase;
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs against the partitioned table from V8, where the seed rows of V2 live in the 2024-11 and 2024-12 partitions.
+ */
+class AccountPartitionRepositoryTest {
+
+    private PostgresTestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private AccountJdbcRepository accountJdbcRepository;
+    private AccountPartitionRepository accountPartitionRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = PostgresTestDatabase.create();
+        jdbcTemplate = new JdbcTemplate(database.dataSource());
+        accountJdbcRepository = new AccountJdbcRepository(jdbcTemplate);
+        accountPartitionRepository = new AccountPartitionRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    void dateFilteredQueriesOnlyScanMatchingPartitions() {
+        String single = explain("SELECT * FROM accounts WHERE due_date = ?", LocalDate.of(2024, 11, 15));
+        assertTrue(single.contains("accounts_2024_11"), single);
+        assertFalse(single.contains("accounts_2024_12") || single.contains("accounts_default"), single);
+
+        String range = explain("SELECT * FROM accounts WHERE due_date BETWEEN ? AND ? ORDER BY due_date, id LIMIT 20",
+                LocalDate.of(2024, 11, 20), LocalDate.of(2024, 12, 10));
+        assertTrue(range.contains("accounts_2024_11") && range.contains("accounts_2024_12"), range);
+        assertFalse(range.contains("accounts_default"), range);
+    }
+
+    @Test
+    void genericPlansPruneAtExecution() {
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE by_due_date(date) AS SELECT * FROM accounts WHERE due_date = $1");
+                StringBuilder text = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery("EXPLAIN (ANALYZE, COSTS OFF) EXECUTE by_due_date('2024-12-05')")) {
+                    while (rs.next()) {
+                        text.append(rs.getString(1)).append('\n');
+                    }
+                }
+                statement.execute("DEALLOCATE by_due_date");
+                return text.toString();
+            }
+        });
+
+        assertTrue(plan.contains("Subplans Removed"), plan);
+        assertFalse(plan.contains("accounts_2024_11"), plan);
+    }
+
+    @Test
+    void splitDefaultPartitionMovesRowsIntoTheirMonth() {
+        accountJdbcRepository.insertAll(List.of(request(LocalDate.of(2021, 3, 10), AccountStatus.PAID)));
+        assertEquals("accounts_default", partitionOf(LocalDate.of(2021, 3, 10)));
+        BigDecimal totalBefore = totalPaidOn(LocalDate.of(2021, 3, 10));
+
+        assertEquals(1, accountPartitionRepository.splitDefaultPartition());
+        assertEquals(0, accountPartitionRepository.splitDefaultPartition());
+
+        assertEquals("accounts_2021_03", partitionOf(LocalDate.of(2021, 3, 10)));
+        assertEquals(totalBefore, totalPaidOn(LocalDate.of(2021, 3, 10)));
+        assertEquals(0, accountPartitionRepository.createPartitions(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 31)));
+        assertEquals(2, accountPartitionRepository.createPartitions(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 5, 31)));
+    }
+
+    @Test
+    void archivePartitionsBeforeDetachesOldMonthsAndTheirTotals() {
+        accountJdbcRepository.insertAll(List.of(
+                request(LocalDate.of(2021, 3, 10), AccountStatus.PAID),
+                request(LocalDate.of(2021, 4, 10), AccountStatus.PAID)));
+        accountPartitionRepository.splitDefaultPartition();
+        assertEquals(new BigDecimal("500.00"), totalPaidOn(LocalDate.of(2021, 3, 10)));
+
+        assertEquals(1, accountPartitionRepository.archivePartitionsBefore(LocalDate.of(2021, 4, 15)));
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM accounts WHERE due_date < '2021-04-01'", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM accounts_archive.accounts_2021_03", Integer.class));
+        assertEquals(0, totalPaidOn(LocalDate.of(2021, 3, 10)).signum());
+        assertEquals(new BigDecimal("500.00"), totalPaidOn(LocalDate.of(2021, 4, 10)));
+    }
+
+    @Test
+    void archivePartitionsBeforeRecordsAnArchivedEventPerAccount() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        accountJdbcRepository.insertAll(ids, List.of(
+                request(LocalDate.of(2021, 3, 10), AccountStatus.PAID),
+                request(LocalDate.of(2021, 3, 20), AccountStatus.PENDING)));
+        accountPartitionRepository.splitDefaultPartition();
+
+        accountPartitionRepository.archivePartitionsBefore(LocalDate.of(2021, 4, 1));
+
+        assertEquals(ids.stream().map(UUID::toString).sorted().toList(), jdbcTemplate.queryForList(
+                "SELECT account_id::text FROM account_events WHERE event_type = 'ARCHIVED' ORDER BY account_id::text", String.class));
+        assertEquals(List.of("2021-03-10", "2021-03-20"), jdbcTemplate.queryForList(
+                "SELECT payload->>'dueDate' FROM account_events WHERE event_type = 'ARCHIVED' ORDER BY 1", String.class));
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+
+    private String partitionOf(LocalDate dueDate) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM accounts WHERE due_date = ?", String.class, dueDate);
+    }
+
+    private BigDecimal totalPaidOn(LocalDate paymentDate) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(total_value), 0) FROM paid_daily_totals WHERE payment_date = ?",
+                BigDecimal.class, paymentDate);
+    }
+
+    private AccountRequestDTO request(LocalDate dueDate, AccountStatus status) {
+        return AccountRequestDTO.builder()
+                .dueDate(dueDate)
+                .paymentDate(status == AccountStatus.PAID ? dueDate : null)
+                .value(new BigDecimal("500.00"))
+                .description("Conta de eletricidade")
+                .status(status)
+                .build();
+    }
+}
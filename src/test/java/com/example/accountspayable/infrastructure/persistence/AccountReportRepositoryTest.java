@@ -0,0 +1,110 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import com.example.accountspayable.PostgresTestDatabase;
+import com.example.accountspayable.application.dto.AccountReportDTO;
+import com.example.accountspayable.application.dto.ReportBucketDTO;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import com.example.accountspayable.domain.enums.AgingBucket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AccountReportRepositoryTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2024, 12, 15);
+
+    private PostgresTestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private AccountReportRepository accountReportRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = PostgresTestDatabase.create();
+        jdbcTemplate = new JdbcTemplate(database.dataSource());
+        accountReportRepository = new AccountReportRepository(jdbcTemplate);
+
+        // drop the V2 seed rows so the totals below are the whole table
+        jdbcTemplate.update("DELETE FROM accounts");
+
+        insert("2024-12-20", null, "100.00", AccountStatus.PENDING);
+        insert("2024-12-01", null, "200.00", AccountStatus.OVERDUE);
+        insert("2024-10-01", null, "300.00", AccountStatus.OVERDUE);
+        insert("2024-06-01", null, "400.00", AccountStatus.PENDING);
+        insert("2024-10-10", "2024-10-10", "500.00", AccountStatus.PAID);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    void reportGroupsByStatusMonthAndAging() {
+        AccountReportDTO report = accountReportRepository.report(null, null, AS_OF);
+
+        assertEquals(bucket(null, null, null, 5, "1500.00"), report.getTotal());
+        assertEquals(List.of(
+                bucket(null, AccountStatus.OVERDUE, null, 2, "500.00"),
+                bucket(null, AccountStatus.PAID, null, 1, "500.00"),
+                bucket(null, AccountStatus.PENDING, null, 2, "500.00")), report.getByStatus());
+        assertEquals(List.of(
+                bucket(YearMonth.of(2024, 6), null, null, 1, "400.00"),
+                bucket(YearMonth.of(2024, 10), null, null, 2, "800.00"),
+                bucket(YearMonth.of(2024, 12), null, null, 2, "300.00")), report.getByMonth());
+        assertEquals(List.of(
+                bucket(YearMonth.of(2024, 6), AccountStatus.PENDING, null, 1, "400.00"),
+                bucket(YearMonth.of(2024, 10), AccountStatus.OVERDUE, null, 1, "300.00"),
+                bucket(YearMonth.of(2024, 10), AccountStatus.PAID, null, 1, "500.00"),
+                bucket(YearMonth.of(2024, 12), AccountStatus.OVERDUE, null, 1, "200.00"),
+                bucket(YearMonth.of(2024, 12), AccountStatus.PENDING, null, 1, "100.00")), report.getByMonthAndStatus());
+        assertEquals(List.of(
+                bucket(null, null, AgingBucket.NOT_DUE, 1, "100.00"),
+                bucket(null, null, AgingBucket.DAYS_1_30, 1, "200.00"),
+                bucket(null, null, AgingBucket.DAYS_61_90, 1, "300.00"),
+                bucket(null, null, AgingBucket.OVER_90, 1, "400.00")), report.getAging());
+    }
+
+    @Test
+    void reportOnlyCoversTheRequestedDueDates() {
+        AccountReportDTO report = accountReportRepository.report(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 11, 30), AS_OF);
+
+        assertEquals(bucket(null, null, null, 2, "800.00"), report.getTotal());
+        assertEquals(List.of(bucket(YearMonth.of(2024, 10), null, null, 2, "800.00")), report.getByMonth());
+        assertEquals(List.of(bucket(null, null, AgingBucket.DAYS_61_90, 1, "300.00")), report.getAging());
+    }
+
+    @Test
+    void emptyReportHasZeroTotal() {
+        AccountReportDTO report = accountReportRepository.report(LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 31), AS_OF);
+
+        assertEquals(0, report.getTotal().getCount());
+        assertEquals(List.of(), report.getByStatus());
+        assertEquals(List.of(), report.getAging());
+    }
+
+    private void insert(String dueDate, String paymentDate, String value, AccountStatus status) {
+        jdbcTemplate.update("INSERT INTO accounts (due_date, payment_date, value, description, status)"
+                        + " VALUES (?::date, ?::date, ?, 'Conta', ?)",
+                dueDate, paymentDate, new BigDecimal(value), status.name());
+    }
+
+    private static ReportBucketDTO bucket(YearMonth month, AccountStatus status, AgingBucket aging, long count, String total) {
+        return ReportBucketDTO.builder()
+                .month(month)
+                .status(status)
+                .aging(aging)
+                .count(count)
+                .total(new BigDecimal(total))
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import com.example.accountspayable.PostgresTestDatabase;
+import com.example.accountspayable.application.dto.AccountRequestDTO;
+import com.example.accountspayable.domain.entity.AccountEntity;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountStatusTransitionTest {
+
+    private static final LocalDate PAYMENT_DATE = LocalDate.of(2024, 11, 5);
+    private static final int ACCOUNTS = 200;
+    private static final int THREADS = 16;
+
+    private PostgresTestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private AccountJdbcRepository accountJdbcRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = PostgresTestDatabase.create();
+        jdbcTemplate = new JdbcTemplate(database.dataSource());
+        accountJdbcRepository = new AccountJdbcRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    void statusChangesFollowTheTransitionRules() {
+        UUID id = insert(1).get(0);
+
+        assertTrue(accountJdbcRepository.updateStatus(id, AccountStatus.PENDING, PAYMENT_DATE).isEmpty());
+        assertEquals(AccountStatus.OVERDUE, accountJdbcRepository.updateStatus(id, AccountStatus.OVERDUE, PAYMENT_DATE).orElseThrow().getStatus());
+        AccountEntity paid = accountJdbcRepository.updateStatus(id, AccountStatus.PAID, PAYMENT_DATE).orElseThrow();
+        assertEquals(PAYMENT_DATE, paid.getPaymentDate());
+        assertTrue(accountJdbcRepository.updateStatus(id, AccountStatus.OVERDUE, PAYMENT_DATE).isEmpty());
+        assertTrue(accountJdbcRepository.updateStatus(id, AccountStatus.PAID, PAYMENT_DATE.plusDays(1)).isEmpty());
+
+        AccountEntity reversed = accountJdbcRepository.updateStatus(id, AccountStatus.PENDING, PAYMENT_DATE).orElseThrow();
+        assertNull(reversed.getPaymentDate());
+        assertEquals(3L, reversed.getVersion());
+        assertEquals(Map.of(id, AccountStatus.PENDING), accountJdbcRepository.findStatuses(List.of(id, UUID.randomUUID())));
+    }
+
+    @Test
+    void fullUpdatesFollowTheTransitionRulesWithOrWithoutAVersion() {
+        UUID id = insert(1).get(0);
+        AccountEntity paid = accountJdbcRepository.update(id, full(AccountStatus.PAID, PAYMENT_DATE, null)).orElseThrow();
+        assertEquals(PAYMENT_DATE, paid.getPaymentDate());
+
+        assertTrue(accountJdbcRepository.update(id, full(AccountStatus.OVERDUE, null, null)).isEmpty());
+        assertTrue(accountJdbcRepository.update(id, full(AccountStatus.OVERDUE, null, paid.getVersion())).isEmpty());
+        assertArrayEquals(new int[]{0}, accountJdbcRepository.updateAll(List.of(id), List.of(full(AccountStatus.OVERDUE, null, null))));
+        assertEquals(PAYMENT_DATE.plusDays(1),
+                accountJdbcRepository.update(id, full(AccountStatus.PAID, PAYMENT_DATE.plusDays(1), null)).orElseThrow().getPaymentDate());
+
+        AccountEntity reversed = accountJdbcRepository.update(id, full(AccountStatus.PENDING, PAYMENT_DATE, null)).orElseThrow();
+        assertNull(reversed.getPaymentDate());
+        assertEquals(3L, reversed.getVersion());
+    }
+
+    /**
+     * Payments race the overdue transition on every account. Without the conditional update a late OVERDUE would
+     * overwrite a PAID; here every account must end up paid once, with one version per transition that was written.
+     */
+    @Test
+    void concurrentTransitionsLoseNoUpdates() throws Exception {
+        List<UUID> ids = insert(ACCOUNTS);
+        Map<UUID, AtomicInteger> payments = new ConcurrentHashMap<>();
+        Map<UUID, AtomicInteger> written = new ConcurrentHashMap<>();
+        ids.forEach(id -> {
+            payments.put(id, new AtomicInteger());
+            written.put(id, new AtomicInteger());
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            AccountStatus target = thread % 2 == 0 ? AccountStatus.PAID : AccountStatus.OVERDUE;
+            List<UUID> order = new ArrayList<>(ids);
+            Collections.shuffle(order);
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (UUID id : order) {
+                    if (accountJdbcRepository.updateStatus(id, target, PAYMENT_DATE).isPresent()) {
+                        written.get(id).incrementAndGet();
+                        if (target == AccountStatus.PAID) {
+                            payments.get(id).incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        jdbcTemplate.query("SELECT id, status, payment_date, version FROM accounts WHERE description = 'Concorrência'", rs -> {
+            UUID id = rs.getObject("id", UUID.class);
+            assertEquals("PAID", rs.getString("status"));
+            assertEquals(PAYMENT_DATE, rs.getObject("payment_date", LocalDate.class));
+            assertEquals(1, payments.get(id).get());
+            assertEquals(written.get(id).get(), rs.getLong("version"));
+        });
+        assertEquals(ACCOUNTS, jdbcTemplate.queryForObject(
+                "SELECT paid_count FROM paid_daily_totals WHERE payment_date = ?", Long.class, PAYMENT_DATE));
+    }
+
+    private static AccountRequestDTO full(AccountStatus status, LocalDate paymentDate, Long version) {
+        return AccountRequestDTO.builder()
+                .dueDate(LocalDate.of(2024, 10, 1))
+                .paymentDate(paymentDate)
+                .value(new BigDecimal("100.00"))
+                .description("Concorrência")
+                .status(status)
+                .version(version)
+                .build();
+    }
+
+    private List<UUID> insert(int count) {
+        List<UUID> ids = new ArrayList<>();
+        List<AccountRequestDTO> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+            accounts.add(AccountRequestDTO.builder()
+                    .dueDate(LocalDate.of(2024, 10, 1))
+                    .value(new BigDecimal("100.00"))
+                    .description("Concorrência")
+                    .status(AccountStatus.PENDING)
+                    .build());
+        }
+        accountJdbcRepository.insertAll(ids, accounts);
+        return ids;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.accountspayable.infrastructure.persistence;
+
+import com.example.accountspayable.PostgresTestDatabase;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private final ReadYourWritesTracker readYourWrites = new ReadYourWritesTracker(Duration.ofMinutes(1));
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        dataSource = new ReplicaRoutingDataSource(primary, replica, readYourWrites, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() throws SQLException {
+        assertSame(primaryConnection, dataSource.getConnection());
+
+        inTransaction(true);
+        assertSame(replicaConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void fallsBackToThePrimaryWhileTheReplicaIsDown() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("replica - Connection is not available"));
+        inTransaction(true);
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertSame(primaryConnection, dataSource.getConnection());
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    void readsOfAClientThatJustWroteStayOnThePrimary() throws Exception {
+        MockHttpServletResponse written = new MockHttpServletResponse();
+        readYourWrites.doFilter(new MockHttpServletRequest("PATCH", "/api/accounts/1/status"), written, new MockFilterChain());
+        Cookie lastWrite = written.getCookie(ReadYourWritesTracker.COOKIE);
+        assertNotNull(lastWrite);
+
+        inTransaction(true);
+        assertSame(primaryConnection, readAs(lastWrite));
+        assertSame(replicaConnection, readAs());
+        assertSame(replicaConnection, readAs(new Cookie(ReadYourWritesTracker.COOKIE,
+                Long.toString(System.currentTimeMillis() - Duration.ofMinutes(2).toMillis()))));
+
+        MockHttpServletResponse read = new MockHttpServletResponse();
+        readYourWrites.doFilter(new MockHttpServletRequest("GET", "/api/accounts"), read, new MockFilterChain());
+        assertNull(read.getCookie(ReadYourWritesTracker.COOKIE));
+    }
+
+    @Test
+    void readWriteTransactionsDoNotMoveOtherReadsToThePrimary() throws SQLException {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/accounts/1")));
+        inTransaction(false);
+        assertSame(primaryConnection, dataSource.getConnection());
+
+        inTransaction(true);
+        assertSame(replicaConnection, dataSource.getConnection());
+    }
+
+    /**
+     * Two databases on the test server stand in for the primary and the replica; which one served a transaction
+     * shows in {@code current_database()}.
+     */
+    @Test
+    void routesTransactionsBehindALazyProxy() throws Exception {
+        try (PostgresTestDatabase primaryDatabase = PostgresTestDatabase.create();
+             PostgresTestDatabase replicaDatabase = PostgresTestDatabase.create()) {
+            DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                    primaryDatabase.dataSource(), replicaDatabase.dataSource(),
+                    readYourWrites, Duration.ofMinutes(1)));
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+            TransactionTemplate transactions = new TransactionTemplate(new DataSourceTransactionManager(routing));
+            String primaryName = new JdbcTemplate(primaryDatabase.dataSource())
+                    .queryForObject("SELECT current_database()", String.class);
+
+            String written = transactions.execute(status -> jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+            transactions.setReadOnly(true);
+            String read = transactions.execute(status -> jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+
+            assertEquals(primaryName, written);
+            assertNotEquals(primaryName, read);
+        }
+    }
+
+    private Connection readAs(Cookie... cookies) throws SQLException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts");
+        if (cookies.length > 0) {
+            request.setCookies(cookies);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return dataSource.getConnection();
+    }
+
+    private static void inTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.accountspayable.infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil());
+        ReflectionTestUtils.setField(jwtUtil, "secret", "test-secret-with-at-least-thirty-two-bytes");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", Duration.ofHours(1));
+        jwtUtil.init();
+        filter = new JwtAuthenticationFilter(jwtUtil, 100, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesBearerTokenAndCachesTheVerification() throws Exception {
+        String token = jwtUtil.generateToken("admin", List.of("ROLE_USER"));
+
+        Authentication first = filterWith("Bearer " + token);
+        Authentication second = filterWith("Bearer " + token);
+
+        assertEquals("admin", first.getName());
+        assertTrue(first.isAuthenticated());
+        assertEquals("ROLE_USER", first.getAuthorities().iterator().next().getAuthority());
+        assertSame(first, second);
+        verify(jwtUtil, times(1)).extractClaims(token);
+    }
+
+    @Test
+    void ignoresInvalidAndExpiredTokens() throws Exception {
+        String token = jwtUtil.generateToken("admin", List.of("ROLE_USER"));
+        ReflectionTestUtils.setField(jwtUtil, "expiration", Duration.ofSeconds(-1));
+        String expired = jwtUtil.generateToken("admin", List.of("ROLE_USER"));
+
+        assertNull(filterWith("Bearer " + token.substring(0, token.length() - 2) + "xx"));
+        assertNull(filterWith("Bearer " + expired));
+        assertNull(filterWith("Basic YWRtaW46YWRtaW4="));
+        assertTrue(jwtUtil.isTokenValid(token, "admin"));
+    }
+
+    private Authentication filterWith(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts");
+        request.addHeader("Authorization", authorization);
+        AtomicReference<Authentication> authentication = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> authentication.set(SecurityContextHolder.getContext().getAuthentication()));
+        SecurityContextHolder.clearContext();
+        return authentication.get();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.accountspayable.presentation;
+
+import com.example.accountspayable.application.dto.AccountResponseDTO;
+import com.example.accountspayable.domain.enums.AccountStatus;
+import com.example.accountspayable.presentation.dto.ResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SparseFieldsAdviceTest {
+
+    private static final UUID ID = UUID.fromString("8a6b4c7e-12d3-40a6-9c8a-000000000001");
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+            .build();
+
+    private final SparseFieldsAdvice advice = new SparseFieldsAdvice();
+
+    @Test
+    void testFieldsParameterNarrowsEveryAccount() throws Exception {
+        ResponseDTO<List<AccountResponseDTO>> body = ResponseDTO.<List<AccountResponseDTO>>builder()
+                .status("success")
+                .data(List.of(account(0L), account(1L)))
+                .build();
+
+        assertEquals("{\"status\":\"success\",\"message\":null,\"data\":["
+                        + "{\"id\":\"" + ID + "\",\"value\":500.00,\"status\":\"PENDING\"},"
+                        + "{\"id\":\"" + ID + "\",\"value\":500.00,\"status\":\"PENDING\"}]}",
+                write(body, " status, value,id"));
+        assertEquals(objectMapper.writeValueAsString(body), write(body, null));
+    }
+
+    @Test
+    void testParseRejectsUnknownFields() {
+        assertEquals(Set.of("id", "status"), SparseFieldsAdvice.parse("status,id,"));
+        assertNull(SparseFieldsAdvice.parse(" "));
+        assertThrows(RuntimeException.class, () -> SparseFieldsAdvice.parse("id,amount"));
+    }
+
+    @Test
+    void testETagsFollowVersionAndFields() {
+        assertEquals("W/\"" + ID + "-3\"", AccountETags.of(account(3L), null));
+        assertNotEquals(AccountETags.of(account(3L), null), AccountETags.of(account(3L), Set.of("id")));
+        assertNotEquals(AccountETags.of(List.of(account(1L)), null, 1L), AccountETags.of(List.of(account(2L)), null, 1L));
+        assertNotEquals(AccountETags.of(List.of(account(1L)), null, 1L), AccountETags.of(List.of(account(1L)), null, 2L));
+    }
+
+    private String write(Object body, String fields) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts");
+        if (fields != null) {
+            request.setParameter("fields", fields);
+        }
+        MappingJacksonValue container = (MappingJacksonValue) advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(request),
+                new ServletServerHttpResponse(new MockHttpServletResponse()));
+        return container.getFilters() == null
+                ? objectMapper.writeValueAsString(container.getValue())
+                : objectMapper.writer(container.getFilters()).writeValueAsString(container.getValue());
+    }
+
+    private static AccountResponseDTO account(Long version) {
+        return AccountResponseDTO.builder()
+                .id(ID)
+                .dueDate(LocalDate.of(2024, 11, 1))
+                .value(new BigDecimal("500.00"))
+                .description("Conta de eletricidade")
+                .status(AccountStatus.PENDING)
+                .version(version)
+                .build();
+    }
+}